@@ -0,0 +1,46 @@
+package bench;
+
+import graph.CompactGraph;
+import graph.Edge;
+import org.openjdk.jmh.annotations.*;
+import util.ComponentFinder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComponentFinderBenchmark {
+
+    // The MST with its middle edge removed, as MSTReplacer sees it, both as an edge
+    // list and as a CompactGraph, so the two benchmarks label the same forest
+    @State(Scope.Benchmark)
+    public static class ForestState {
+        int vertices;
+        List<Edge> remainingEdges;
+        CompactGraph remainingGraph;
+
+        @Setup(Level.Trial)
+        public void setUp(GraphState state) {
+            vertices = state.graph.getVertices();
+            remainingEdges = new ArrayList<>(state.mstEdges);
+            remainingEdges.remove(remainingEdges.size() / 2);
+            remainingGraph = CompactGraph.fromEdges(vertices, remainingEdges);
+        }
+    }
+
+    @Benchmark
+    public List<Set<Integer>> findComponents(ForestState forest) {
+        return ComponentFinder.findComponents(forest.vertices, forest.remainingEdges);
+    }
+
+    @Benchmark
+    public List<Set<Integer>> findComponentsCompact(ForestState forest) {
+        return ComponentFinder.findComponents(forest.remainingGraph);
+    }
+}
@@ -0,0 +1,68 @@
+package bench;
+
+import graph.CompactGraph;
+import graph.GraphGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Generation throughput of each GraphGenerator topology on one thread and on the
+// common pool, at roughly the same number of edges
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeneratorBenchmark {
+    @Param({"1000000", "10000000"})
+    public int edgeCount;
+
+    @Param({"1", "0"})
+    public int threads; // 0 = common pool
+
+    private ForkJoinPool pool;
+    private GraphGenerator generator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = threads == 0 ? ForkJoinPool.commonPool() : new ForkJoinPool(threads);
+        generator = new GraphGenerator(42, 1_000_000, pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (pool != ForkJoinPool.commonPool()) {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public CompactGraph erdosRenyi() {
+        return generator.erdosRenyi(edgeCount / 8, edgeCount);
+    }
+
+    @Benchmark
+    public CompactGraph grid() {
+        int side = (int) Math.sqrt(edgeCount / 2.0);
+        return generator.grid(side, side);
+    }
+
+    @Benchmark
+    public CompactGraph rmat() {
+        return generator.rmat(31 - Integer.numberOfLeadingZeros(edgeCount / 8), edgeCount);
+    }
+
+    @Benchmark
+    public CompactGraph randomGeometric() {
+        // Expected degree is V * pi * r^2, so r is chosen for about 8 edges per vertex
+        int vertices = edgeCount / 4;
+        return generator.randomGeometric(vertices, Math.sqrt(8.0 / (Math.PI * vertices)));
+    }
+
+    @Benchmark
+    public CompactGraph path() {
+        return generator.path(edgeCount + 1);
+    }
+}
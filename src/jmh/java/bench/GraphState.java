@@ -0,0 +1,46 @@
+package bench;
+
+import graph.CompactGraph;
+import graph.Edge;
+import graph.Graph;
+import mst.KruskalMST;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+
+// Shared random connected graph, parameterized by size and average degree
+@State(Scope.Benchmark)
+public class GraphState {
+    @Param({"1000", "10000", "100000"})
+    public int vertices;
+
+    @Param({"4", "16"})
+    public int averageDegree;
+
+    public Graph graph;
+    public CompactGraph compactGraph;
+    public List<Edge> edges;
+    public List<Edge> mstEdges;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = randomConnectedGraph(vertices, (long) vertices * averageDegree / 2, 42);
+        compactGraph = CompactGraph.fromGraph(graph);
+        edges = graph.getEdges();
+        mstEdges = new KruskalMST(graph).getMSTEdges();
+    }
+
+    // Random spanning tree plus uniformly random extra edges
+    static Graph randomConnectedGraph(int vertices, long edges, long seed) {
+        Random random = new Random(seed);
+        Graph graph = new Graph(vertices);
+        for (int v = 1; v < vertices; v++) {
+            graph.addEdge(random.nextInt(v), v, random.nextInt(1_000_000));
+        }
+        for (long i = vertices - 1; i < edges; i++) {
+            graph.addEdge(random.nextInt(vertices), random.nextInt(vertices), random.nextInt(1_000_000));
+        }
+        return graph;
+    }
+}
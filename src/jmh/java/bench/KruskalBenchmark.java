@@ -0,0 +1,35 @@
+package bench;
+
+import graph.Edge;
+import mst.KruskalMST;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KruskalBenchmark {
+
+    @Benchmark
+    public List<Edge> sortEdges(GraphState state) {
+        List<Edge> sortedEdges = new ArrayList<>(state.edges);
+        Collections.sort(sortedEdges);
+        return sortedEdges;
+    }
+
+    @Benchmark
+    public KruskalMST buildFromGraph(GraphState state) {
+        return new KruskalMST(state.graph);
+    }
+
+    @Benchmark
+    public KruskalMST buildFromCompactGraph(GraphState state) {
+        return new KruskalMST(state.compactGraph);
+    }
+}
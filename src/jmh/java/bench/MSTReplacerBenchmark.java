@@ -0,0 +1,92 @@
+package bench;
+
+import graph.Edge;
+import mst.KruskalMST;
+import mst.MSTReplacer;
+import mst.ReplacementWorkspace;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MSTReplacerBenchmark {
+
+    @State(Scope.Thread)
+    public static class ReplacerState {
+        MSTReplacer replacer;
+        Edge edgeToRemove;
+
+        // removeAndReplace mutates the tree, so each call gets a fresh replacer
+        @Setup(Level.Invocation)
+        public void setUp(GraphState state) {
+            replacer = new MSTReplacer(state.compactGraph, state.mstEdges);
+            edgeToRemove = state.mstEdges.get(state.mstEdges.size() / 2);
+        }
+    }
+
+    @Benchmark
+    public Edge removeAndReplace(ReplacerState replacerState) {
+        return replacerState.replacer.removeAndReplace(replacerState.edgeToRemove);
+    }
+
+    @State(Scope.Thread)
+    public static class SweepState {
+        MSTReplacer replacer;
+        int[] treeEdgeIds;
+        Random random;
+
+        // One long-lived replacer per iteration: the steady state the GC profiler's
+        // alloc.rate.norm should report as 0 bytes per call
+        @Setup(Level.Iteration)
+        public void setUp(GraphState state) {
+            replacer = new MSTReplacer(state.compactGraph, state.mstEdges, new ReplacementWorkspace());
+            treeEdgeIds = state.compactGraph.findEdgeIds(state.mstEdges);
+            random = new Random(11);
+        }
+    }
+
+    @Benchmark
+    public int removeAndReplaceId(SweepState sweepState) {
+        int[] tree = sweepState.treeEdgeIds;
+        int k = sweepState.random.nextInt(tree.length);
+        if (tree[k] != -1) {
+            tree[k] = sweepState.replacer.removeAndReplaceId(tree[k]);
+        }
+        return tree[k];
+    }
+
+    @State(Scope.Thread)
+    public static class InsertionState {
+        MSTReplacer replacer;
+        Random random;
+        int vertices;
+
+        // The link-cut tree is built by the first insertion, outside the measurement
+        @Setup(Level.Iteration)
+        public void setUp(GraphState state) {
+            replacer = new MSTReplacer(state.compactGraph, state.mstEdges);
+            random = new Random(7);
+            vertices = state.vertices;
+            replacer.insertAndReplace(new Edge(0, 0, 0));
+        }
+    }
+
+    @Benchmark
+    public Edge insertAndReplace(InsertionState insertionState) {
+        Random random = insertionState.random;
+        int vertices = insertionState.vertices;
+        return insertionState.replacer.insertAndReplace(
+                new Edge(random.nextInt(vertices), random.nextInt(vertices), random.nextInt(1_000_000)));
+    }
+
+    // What an insertion costs without the incremental path: a full rebuild
+    @Benchmark
+    public KruskalMST rebuildAfterInsertion(GraphState state) {
+        return new KruskalMST(state.compactGraph);
+    }
+}
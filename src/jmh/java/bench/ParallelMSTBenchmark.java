@@ -0,0 +1,58 @@
+package bench;
+
+import graph.CompactGraph;
+import mst.BoruvkaMST;
+import mst.FilterKruskalMST;
+import mst.KruskalMST;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Thread scaling of the parallel engines against the sequential CSR Kruskal baseline
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelMSTBenchmark {
+    @Param({"1000000"})
+    public int vertices;
+
+    @Param({"8"})
+    public int averageDegree;
+
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    public int threads;
+
+    private CompactGraph graph;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = CompactGraph.fromGraph(
+                GraphState.randomConnectedGraph(vertices, (long) vertices * averageDegree / 2, 42));
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public FilterKruskalMST filterKruskal() {
+        return new FilterKruskalMST(graph, pool);
+    }
+
+    @Benchmark
+    public BoruvkaMST boruvka() {
+        return new BoruvkaMST(graph, pool);
+    }
+
+    @Benchmark
+    public KruskalMST sequentialKruskal() {
+        return new KruskalMST(graph);
+    }
+}
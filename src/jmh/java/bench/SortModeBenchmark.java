@@ -0,0 +1,66 @@
+package bench;
+
+import graph.CompactGraph;
+import graph.Graph;
+import mst.KruskalMST;
+import org.openjdk.jmh.annotations.*;
+import util.EdgeSorter;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Edge ordering strategies for Kruskal: the Collections.sort baseline against the
+// packed, radix and counting sorts, for small and wide weight ranges
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SortModeBenchmark {
+    @Param({"100000", "1000000"})
+    public int edgeCount;
+
+    @Param({"100", "1000000000"})
+    public int weightRange;
+
+    @Param({"PACKED", "RADIX", "COUNTING", "AUTO"})
+    public EdgeSorter.Mode mode;
+
+    private Graph graph;
+    private CompactGraph compactGraph;
+    private int[] weights;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int vertices = edgeCount / 8;
+        Random random = new Random(42);
+        graph = new Graph(vertices);
+        for (int v = 1; v < vertices; v++) {
+            graph.addEdge(random.nextInt(v), v, random.nextInt(weightRange));
+        }
+        for (int i = vertices - 1; i < edgeCount; i++) {
+            graph.addEdge(random.nextInt(vertices), random.nextInt(vertices), random.nextInt(weightRange));
+        }
+        compactGraph = CompactGraph.fromGraph(graph);
+        weights = new int[edgeCount];
+        for (int i = 0; i < edgeCount; i++) {
+            weights[i] = compactGraph.getWeight(i);
+        }
+    }
+
+    @Benchmark
+    public int[] sortOnly() {
+        return EdgeSorter.sortedOrder(weights, mode);
+    }
+
+    @Benchmark
+    public KruskalMST kruskalCompactGraph() {
+        return new KruskalMST(compactGraph, mode);
+    }
+
+    @Benchmark
+    public KruskalMST kruskalCollectionsSort() {
+        return new KruskalMST(graph);
+    }
+}
@@ -0,0 +1,50 @@
+package bench;
+
+import graph.CompactGraph;
+import graph.UnionFind;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnionFindBenchmark {
+
+    // Union every edge of the graph in input order
+    @Benchmark
+    public int unionAllEdges(GraphState state) {
+        CompactGraph graph = state.compactGraph;
+        UnionFind uf = new UnionFind(graph.getVertices());
+        for (int i = 0; i < graph.getEdgeCount(); i++) {
+            uf.union(graph.getSource(i), graph.getDestination(i));
+        }
+        return uf.getComponentCount();
+    }
+
+    // find() on every endpoint after all unions, i.e. mostly compressed paths
+    @Benchmark
+    public void findAfterUnions(FindState findState, GraphState state, Blackhole blackhole) {
+        CompactGraph graph = state.compactGraph;
+        for (int i = 0; i < graph.getEdgeCount(); i++) {
+            blackhole.consume(findState.uf.find(graph.getSource(i)));
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FindState {
+        UnionFind uf;
+
+        @Setup(Level.Iteration)
+        public void setUp(GraphState state) {
+            CompactGraph graph = state.compactGraph;
+            uf = new UnionFind(graph.getVertices());
+            for (int i = 0; i < graph.getEdgeCount(); i++) {
+                uf.union(graph.getSource(i), graph.getDestination(i));
+            }
+        }
+    }
+}
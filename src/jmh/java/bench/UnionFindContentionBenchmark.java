@@ -0,0 +1,55 @@
+package bench;
+
+import graph.ConcurrentUnionFind;
+import graph.UnionFind;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Many threads unioning random pairs of one shared structure: the CAS-based
+// ConcurrentUnionFind against UnionFind behind a single lock. Use -t to vary threads.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class UnionFindContentionBenchmark {
+    @Param({"1000", "1000000"})
+    public int vertices;
+
+    private ConcurrentUnionFind concurrent;
+    private UnionFind locked;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        concurrent = new ConcurrentUnionFind(vertices);
+        locked = new UnionFind(vertices);
+    }
+
+    @State(Scope.Thread)
+    public static class Pairs {
+        SplittableRandom random = new SplittableRandom(Thread.currentThread().getId());
+    }
+
+    @Benchmark
+    public boolean concurrentUnion(Pairs pairs) {
+        return concurrent.union(pairs.random.nextInt(vertices), pairs.random.nextInt(vertices));
+    }
+
+    @Benchmark
+    public boolean lockedUnion(Pairs pairs) {
+        int x = pairs.random.nextInt(vertices);
+        int y = pairs.random.nextInt(vertices);
+        synchronized (locked) {
+            return locked.union(x, y);
+        }
+    }
+
+    @Benchmark
+    public boolean concurrentConnected(Pairs pairs) {
+        return concurrent.connected(pairs.random.nextInt(vertices), pairs.random.nextInt(vertices));
+    }
+}
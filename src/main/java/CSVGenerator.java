@@ -1,320 +1,282 @@
-import graph.Graph;
+import graph.CompactGraph;
 import graph.Edge;
+import graph.GraphGenerator;
 import mst.KruskalMST;
 import mst.MSTReplacer;
+import mst.ReplacementWorkspace;
 import util.ComponentFinder;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
-
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+// Macro-benchmark runner: sweeps generated graphs over topologies, vertex counts and
+// average degrees, and times three phases separately - MST build, component labelling
+// after removing one tree edge, and a single removeAndReplace - with warmup rounds
+// and repetitions. Each CSV row is one (graph, phase) with the median / p99 / min / max
+// in nanoseconds, the median bytes allocated by the measuring thread per repetition,
+// and the GC collections and time observed during the measured repetitions.
+//
+//   java -cp target/classes CSVGenerator --vertices=1000,100000 --degrees=4 --repetitions=20
 public class CSVGenerator {
+    static final String HEADER = "Topology,Vertices,Edges,Average Degree,Phase,Warmup,Repetitions," +
+            "Median (ns),P99 (ns),Min (ns),Max (ns),Allocated Bytes (median),GC Count,GC Time (ms)";
+
+    static class Config {
+        List<String> topologies = List.of("erdos-renyi");
+        int[] vertexCounts = {1_000, 10_000, 100_000, 1_000_000, 10_000_000};
+        int[] degrees = {4, 16};
+        int warmup = 2;
+        int repetitions = 10;
+        long maxEdges = 50_000_000; // larger points are skipped rather than risking the heap
+        long seed = 42;
+        String output = "results/performance_data.csv";
+
+        // Small sweep used by the Main demonstration
+        static Config quick() {
+            Config config = new Config();
+            config.vertexCounts = new int[]{1_000, 10_000, 100_000};
+            config.repetitions = 5;
+            return config;
+        }
+
+        // --topologies=a,b --vertices=n,m --degrees=d,e --warmup=w --repetitions=r
+        // --max-edges=e --seed=s --output=path
+        static Config parse(String[] args) {
+            Config config = new Config();
+            for (String arg : args) {
+                int eq = arg.indexOf('=');
+                if (!arg.startsWith("--") || eq < 0) {
+                    throw new IllegalArgumentException("Expected --key=value, got: " + arg);
+                }
+                String key = arg.substring(2, eq);
+                String value = arg.substring(eq + 1);
+                switch (key) {
+                    case "topologies": config.topologies = List.of(value.split(",")); break;
+                    case "vertices": config.vertexCounts = parseInts(value); break;
+                    case "degrees": config.degrees = parseInts(value); break;
+                    case "warmup": config.warmup = Integer.parseInt(value); break;
+                    case "repetitions": config.repetitions = Integer.parseInt(value); break;
+                    case "max-edges": config.maxEdges = Long.parseLong(value); break;
+                    case "seed": config.seed = Long.parseLong(value); break;
+                    case "output": config.output = value; break;
+                    default: throw new IllegalArgumentException("Unknown option: --" + key);
+                }
+            }
+            if (config.repetitions < 1 || config.warmup < 0) {
+                throw new IllegalArgumentException("Need at least one repetition");
+            }
+            return config;
+        }
+
+        private static int[] parseInts(String value) {
+            return Arrays.stream(value.split(",")).mapToInt(s -> Integer.parseInt(s.trim())).toArray();
+        }
+    }
 
     public static void main(String[] args) {
-        generatePerformanceCSV();
+        run(Config.parse(args));
     }
 
     public static void generatePerformanceCSV() {
-        String csvFile = "results/performance_data.csv";
+        run(Config.quick());
+    }
 
+    static void run(Config config) {
+        Path csvFile = Paths.get(config.output);
         try {
-            Files.createDirectories(Paths.get("results"));
-
-            try (FileWriter writer = new FileWriter(csvFile)) {
-                writer.write("Test Case,Vertices,Edges,Original MST Weight,Removed Edge,Replacement Edge,New MST Weight,Weight Change,Components After Removal,Execution Time (ms)\n");
-
-                List<TestResult> results = new ArrayList<>();
-                results.add(testBasicGraph());
-                results.add(testSampleGraph());
-                results.add(testLargeGraph());
-                results.add(testBridgeRemoval());
-                results.add(testComplexGraph());
-
-                for (TestResult result : results) {
-                    writer.write(result.toCSVRow() + "\n");
+            if (csvFile.getParent() != null) {
+                Files.createDirectories(csvFile.getParent());
+            }
+            try (FileWriter writer = new FileWriter(csvFile.toFile())) {
+                writer.write(HEADER + "\n");
+                int rows = 0;
+                for (String topology : config.topologies) {
+                    for (int vertices : config.vertexCounts) {
+                        for (int degree : config.degrees) {
+                            // Grids and paths have a fixed degree, so one row set is enough
+                            boolean fixedDegree = topology.equals("grid") || topology.equals("path");
+                            if (fixedDegree && degree != config.degrees[0]) continue;
+                            if ((long) vertices * degree / 2 > config.maxEdges) {
+                                System.out.println("Skipping " + topology + " V=" + vertices + " degree=" + degree +
+                                        " (over --max-edges=" + config.maxEdges + ")");
+                                continue;
+                            }
+                            for (PhaseResult result : measure(config, topology, vertices, degree)) {
+                                writer.write(result.toCSVRow() + "\n");
+                                writer.flush();
+                                rows++;
+                            }
+                        }
+                    }
                 }
-
                 System.out.println("CSV report generated: " + csvFile);
-                System.out.println("Total test cases: " + results.size());
-
-            } catch (IOException e) {
-                System.out.println("Error writing CSV file: " + e.getMessage());
+                System.out.println("Total rows: " + rows);
             }
-
         } catch (IOException e) {
-            System.out.println("Error creating results directory: " + e.getMessage());
+            System.out.println("Error writing CSV file: " + e.getMessage());
         }
     }
 
-    private static TestResult testBasicGraph() {
-        long startTime = System.nanoTime();
-
-        Graph graph = new Graph(4);
-        graph.addEdge(0, 1, 1);
-        graph.addEdge(0, 2, 3);
-        graph.addEdge(1, 2, 2);
-        graph.addEdge(1, 3, 4);
-        graph.addEdge(2, 3, 5);
-
-        KruskalMST mst = new KruskalMST(graph);
-
-        Edge toRemove = findEdgeByVertices(mst.getMSTEdges(), 1, 2);
-        if (toRemove == null) toRemove = mst.getMSTEdges().get(0);
-
-        List<Edge> mstCopy = new ArrayList<>(mst.getMSTEdges());
-        mstCopy.remove(toRemove);
-        List<Set<Integer>> components = ComponentFinder.findComponents(graph.getVertices(), mstCopy);
-
-        MSTReplacer replacer = new MSTReplacer(graph, mst.getMSTEdges());
-        Edge replacement = replacer.removeAndReplace(toRemove);
-
-        // Добавляем работу для измерения времени
-        for (int i = 0; i < 1000; i++) {
-            Graph.calculateTotalWeight(replacer.getCurrentMSTEdges());
+    static CompactGraph generate(String topology, int vertices, int degree, long seed) {
+        GraphGenerator generator = new GraphGenerator(seed);
+        int edges = (int) Math.min(Integer.MAX_VALUE, (long) vertices * degree / 2);
+        switch (topology) {
+            case "erdos-renyi": return generator.erdosRenyi(vertices, edges);
+            case "rmat": return generator.rmat(32 - Integer.numberOfLeadingZeros(vertices - 1), edges);
+            case "geometric": return generator.randomGeometric(vertices, Math.sqrt(degree / (Math.PI * vertices)));
+            case "path": return generator.path(vertices);
+            case "grid": {
+                int side = (int) Math.ceil(Math.sqrt(vertices));
+                return generator.grid(side, side);
+            }
+            default: throw new IllegalArgumentException("Unknown topology: " + topology);
         }
-
-        long endTime = System.nanoTime();
-        long executionTime = (endTime - startTime) / 1000000;
-
-        return new TestResult(
-                "Basic Graph",
-                graph.getVertices(),
-                graph.getEdges().size(),
-                mst.getTotalWeight(),
-                toRemove,
-                replacement,
-                Graph.calculateTotalWeight(replacer.getCurrentMSTEdges()),
-                components.size(),
-                Math.max(executionTime, 1) // Минимум 1 мс
-        );
     }
 
-    private static TestResult testSampleGraph() {
-        long startTime = System.nanoTime();
-
-        Graph graph = Graph.createSampleGraph();
-        KruskalMST mst = new KruskalMST(graph);
-
-        Edge toRemove = findEdgeByVertices(mst.getMSTEdges(), 1, 2);
-        if (toRemove == null) toRemove = mst.getMSTEdges().get(0);
-
-        List<Edge> mstCopy = new ArrayList<>(mst.getMSTEdges());
-        mstCopy.remove(toRemove);
-        List<Set<Integer>> components = ComponentFinder.findComponents(graph.getVertices(), mstCopy);
-
-        MSTReplacer replacer = new MSTReplacer(graph, mst.getMSTEdges());
-        Edge replacement = replacer.removeAndReplace(toRemove);
-
-        // Добавляем работу для измерения времени
-        for (int i = 0; i < 1000; i++) {
-            Graph.calculateTotalWeight(replacer.getCurrentMSTEdges());
+    private static List<PhaseResult> measure(Config config, String topology, int vertices, int degree) {
+        CompactGraph graph = generate(topology, vertices, degree, config.seed);
+        List<Edge> mstEdges = new ArrayList<>(new KruskalMST(graph).getMSTEdges());
+        // The same seeded sequence of removed tree edges for both removal phases
+        int[] removedIndex = new int[config.warmup + config.repetitions];
+        Random random = new Random(config.seed);
+        for (int i = 0; i < removedIndex.length; i++) {
+            removedIndex[i] = mstEdges.isEmpty() ? -1 : random.nextInt(mstEdges.size());
         }
 
-        long endTime = System.nanoTime();
-        long executionTime = (endTime - startTime) / 1000000;
-
-        return new TestResult(
-                "Sample Graph",
-                graph.getVertices(),
-                graph.getEdges().size(),
-                mst.getTotalWeight(),
-                toRemove,
-                replacement,
-                Graph.calculateTotalWeight(replacer.getCurrentMSTEdges()),
-                components.size(),
-                Math.max(executionTime, 1)
-        );
+        List<PhaseResult> results = new ArrayList<>();
+        results.add(measurePhase(config, topology, graph, degree, "MST Build", rep ->
+                () -> new KruskalMST(graph).getTotalWeight()));
+
+        if (mstEdges.isEmpty()) return results;
+
+        results.add(measurePhase(config, topology, graph, degree, "Components After Removal", rep -> {
+            List<Edge> remaining = new ArrayList<>(mstEdges);
+            remaining.remove(removedIndex[rep]);
+            return () -> ComponentFinder.labelComponents(graph.getVertices(), remaining).getComponentCount();
+        }));
+
+        ReplacementWorkspace workspace = new ReplacementWorkspace(); // scratch shared by every repetition
+        results.add(measurePhase(config, topology, graph, degree, "Single Replacement", rep -> {
+            MSTReplacer replacer = new MSTReplacer(graph, mstEdges, workspace);
+            Edge removed = mstEdges.get(removedIndex[rep]);
+            return () -> {
+                Edge replacement = replacer.removeAndReplace(removed);
+                return replacement == null ? -1 : replacement.getWeight();
+            };
+        }));
+        return results;
     }
 
-    private static TestResult testLargeGraph() {
-        long startTime = System.nanoTime();
-
-        Graph graph = new Graph(8);
-        graph.addEdge(0, 1, 2);
-        graph.addEdge(0, 2, 4);
-        graph.addEdge(1, 2, 1);
-        graph.addEdge(1, 3, 7);
-        graph.addEdge(2, 4, 3);
-        graph.addEdge(3, 4, 2);
-        graph.addEdge(3, 5, 5);
-        graph.addEdge(4, 5, 4);
-        graph.addEdge(4, 6, 6);
-        graph.addEdge(5, 7, 3);
-        graph.addEdge(6, 7, 2);
-
-        KruskalMST mst = new KruskalMST(graph);
-
-        Edge toRemove = findEdgeByVertices(mst.getMSTEdges(), 3, 4);
-        if (toRemove == null) toRemove = mst.getMSTEdges().get(2);
-
-        List<Edge> mstCopy = new ArrayList<>(mst.getMSTEdges());
-        mstCopy.remove(toRemove);
-        List<Set<Integer>> components = ComponentFinder.findComponents(graph.getVertices(), mstCopy);
+    // Prepares the work for repetition rep outside the timed region
+    private interface Setup {
+        LongSupplier prepare(int rep);
+    }
 
-        MSTReplacer replacer = new MSTReplacer(graph, mst.getMSTEdges());
-        Edge replacement = replacer.removeAndReplace(toRemove);
+    private static long sink; // keeps results observable so the phases are not optimized away
 
-        // Добавляем работу для измерения времени
-        for (int i = 0; i < 1000; i++) {
-            Graph.calculateTotalWeight(replacer.getCurrentMSTEdges());
+    private static PhaseResult measurePhase(Config config, String topology, CompactGraph graph, int degree,
+                                            String phase, Setup setup) {
+        for (int rep = 0; rep < config.warmup; rep++) {
+            sink += setup.prepare(rep).getAsLong();
         }
 
-        long endTime = System.nanoTime();
-        long executionTime = (endTime - startTime) / 1000000;
-
-        return new TestResult(
-                "Large Graph",
-                graph.getVertices(),
-                graph.getEdges().size(),
-                mst.getTotalWeight(),
-                toRemove,
-                replacement,
-                Graph.calculateTotalWeight(replacer.getCurrentMSTEdges()),
-                components.size(),
-                Math.max(executionTime, 1)
-        );
+        long[] nanos = new long[config.repetitions];
+        long[] allocated = new long[config.repetitions];
+        long gcCountBefore = gcCount();
+        long gcTimeBefore = gcTime();
+        for (int i = 0; i < config.repetitions; i++) {
+            LongSupplier work = setup.prepare(config.warmup + i);
+            long bytesBefore = allocatedBytes();
+            long start = System.nanoTime();
+            sink += work.getAsLong();
+            nanos[i] = System.nanoTime() - start;
+            allocated[i] = bytesBefore < 0 ? -1 : allocatedBytes() - bytesBefore;
+        }
+        // Includes collections triggered by the untimed setup between repetitions
+        return new PhaseResult(topology, graph.getVertices(), graph.getEdgeCount(), degree, phase,
+                config.warmup, nanos, allocated, gcCount() - gcCountBefore, gcTime() - gcTimeBefore);
     }
 
-    private static TestResult testBridgeRemoval() {
-        long startTime = System.nanoTime();
-
-        Graph graph = new Graph(5);
-        graph.addEdge(0, 1, 1);
-        graph.addEdge(1, 2, 2);
-        graph.addEdge(2, 3, 3);
-        graph.addEdge(3, 4, 4);
-        graph.addEdge(0, 4, 8);
-
-        KruskalMST mst = new KruskalMST(graph);
-
-        Edge toRemove = findEdgeByVertices(mst.getMSTEdges(), 0, 1);
-        if (toRemove == null) toRemove = mst.getMSTEdges().get(0);
+    private static final java.lang.management.ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
 
-        List<Edge> mstCopy = new ArrayList<>(mst.getMSTEdges());
-        mstCopy.remove(toRemove);
-        List<Set<Integer>> components = ComponentFinder.findComponents(graph.getVertices(), mstCopy);
-
-        MSTReplacer replacer = new MSTReplacer(graph, mst.getMSTEdges());
-        Edge replacement = replacer.removeAndReplace(toRemove);
-
-        // Добавляем работу для измерения времени
-        for (int i = 0; i < 1000; i++) {
-            Graph.calculateTotalWeight(replacer.getCurrentMSTEdges());
+    // Bytes allocated so far by the current thread, or -1 if the JVM cannot tell
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) THREADS;
+            if (threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled()) {
+                return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
         }
-
-        long endTime = System.nanoTime();
-        long executionTime = (endTime - startTime) / 1000000;
-
-        return new TestResult(
-                "Bridge Removal",
-                graph.getVertices(),
-                graph.getEdges().size(),
-                mst.getTotalWeight(),
-                toRemove,
-                replacement,
-                Graph.calculateTotalWeight(replacer.getCurrentMSTEdges()),
-                components.size(),
-                Math.max(executionTime, 1)
-        );
+        return -1;
     }
 
-    private static TestResult testComplexGraph() {
-        long startTime = System.nanoTime();
-
-        Graph graph = new Graph(7);
-        graph.addEdge(0, 1, 3);
-        graph.addEdge(0, 2, 2);
-        graph.addEdge(1, 3, 4);
-        graph.addEdge(2, 3, 1);
-        graph.addEdge(2, 4, 5);
-        graph.addEdge(3, 4, 2);
-        graph.addEdge(3, 5, 3);
-        graph.addEdge(4, 6, 4);
-        graph.addEdge(5, 6, 2);
-
-        KruskalMST mst = new KruskalMST(graph);
-
-        Edge toRemove = findEdgeByVertices(mst.getMSTEdges(), 5, 6);
-        if (toRemove == null) toRemove = mst.getMSTEdges().get(3);
-
-        List<Edge> mstCopy = new ArrayList<>(mst.getMSTEdges());
-        mstCopy.remove(toRemove);
-        List<Set<Integer>> components = ComponentFinder.findComponents(graph.getVertices(), mstCopy);
-
-        MSTReplacer replacer = new MSTReplacer(graph, mst.getMSTEdges());
-        Edge replacement = replacer.removeAndReplace(toRemove);
-
-        // Добавляем работу для измерения времени
-        for (int i = 0; i < 1000; i++) {
-            Graph.calculateTotalWeight(replacer.getCurrentMSTEdges());
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
         }
-
-        long endTime = System.nanoTime();
-        long executionTime = (endTime - startTime) / 1000000;
-
-        return new TestResult(
-                "Complex Graph",
-                graph.getVertices(),
-                graph.getEdges().size(),
-                mst.getTotalWeight(),
-                toRemove,
-                replacement,
-                Graph.calculateTotalWeight(replacer.getCurrentMSTEdges()),
-                components.size(),
-                Math.max(executionTime, 1)
-        );
+        return count;
     }
 
-    private static Edge findEdgeByVertices(List<Edge> edges, int u, int v) {
-        for (Edge edge : edges) {
-            if ((edge.getSource() == u && edge.getDestination() == v) ||
-                    (edge.getSource() == v && edge.getDestination() == u)) {
-                return edge;
-            }
+    private static long gcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, gc.getCollectionTime());
         }
-        return null;
+        return time;
     }
 
-    static class TestResult {
-        String testCase;
+    static class PhaseResult {
+        String topology;
         int vertices;
         int edges;
-        int originalWeight;
-        Edge removedEdge;
-        Edge replacementEdge;
-        int newWeight;
-        int components;
-        long executionTime;
-
-        public TestResult(String testCase, int vertices, int edges, int originalWeight,
-                          Edge removedEdge, Edge replacementEdge, int newWeight,
-                          int components, long executionTime) {
-            this.testCase = testCase;
+        int degree;
+        String phase;
+        int warmup;
+        long[] nanos;
+        long[] allocated;
+        long gcCount;
+        long gcMillis;
+
+        public PhaseResult(String topology, int vertices, int edges, int degree, String phase, int warmup,
+                           long[] nanos, long[] allocated, long gcCount, long gcMillis) {
+            this.topology = topology;
             this.vertices = vertices;
             this.edges = edges;
-            this.originalWeight = originalWeight;
-            this.removedEdge = removedEdge;
-            this.replacementEdge = replacementEdge;
-            this.newWeight = newWeight;
-            this.components = components;
-            this.executionTime = executionTime;
+            this.degree = degree;
+            this.phase = phase;
+            this.warmup = warmup;
+            this.nanos = nanos.clone();
+            this.allocated = allocated.clone();
+            this.gcCount = gcCount;
+            this.gcMillis = gcMillis;
+            Arrays.sort(this.nanos);
+            Arrays.sort(this.allocated);
         }
 
-        public String toCSVRow() {
-            String removedStr = (removedEdge != null) ?
-                    removedEdge.getSource() + "-" + removedEdge.getDestination() + " (weight: " + removedEdge.getWeight() + ")" : "None";
-
-            String replacementStr = (replacementEdge != null) ?
-                    replacementEdge.getSource() + "-" + replacementEdge.getDestination() + " (weight: " + replacementEdge.getWeight() + ")" : "No replacement";
+        // Nearest-rank percentile of sorted samples
+        static long percentile(long[] sorted, double p) {
+            int rank = (int) Math.ceil(p / 100 * sorted.length);
+            return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+        }
 
-            int weightChange = newWeight - originalWeight;
+        public long getMedianNanos() { return percentile(nanos, 50); }
+        public long getP99Nanos() { return percentile(nanos, 99); }
 
-            return String.format("%s,%d,%d,%d,%s,%s,%d,%d,%d,%d",
-                    testCase, vertices, edges, originalWeight, removedStr, replacementStr,
-                    newWeight, weightChange, components, executionTime);
+        public String toCSVRow() {
+            return String.format("%s,%d,%d,%d,%s,%d,%d,%d,%d,%d,%d,%d,%d,%d",
+                    topology, vertices, edges, degree, phase, warmup, nanos.length,
+                    getMedianNanos(), getP99Nanos(), nanos[0], nanos[nanos.length - 1],
+                    percentile(allocated, 50), gcCount, gcMillis);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,9 @@
 import graph.Graph;
 import graph.Edge;
-import mst.KruskalMST;
+import mst.MSTAlgorithm;
+import mst.MSTEngine;
 import mst.MSTReplacer;
+import metrics.ConsoleListener;
 import java.util.List;
 
 public class Main {
@@ -9,6 +11,9 @@ public class Main {
     public static void main(String[] args) {
         printHeader();
 
+        // Optional first argument selects the MST engine: kruskal, filter-kruskal, boruvka, prim
+        MSTEngine engine = args.length > 0 ? MSTEngine.fromName(args[0]) : MSTEngine.KRUSKAL;
+
         // Create results directory
         try {
             java.nio.file.Files.createDirectories(java.nio.file.Paths.get("results"));
@@ -22,22 +27,23 @@ public class Main {
 
         waitForUser();
 
-        System.out.println("Step 2: Building Minimum Spanning Tree...");
-        KruskalMST kruskal = new KruskalMST(graph);
-        kruskal.displayMST();
+        System.out.println("Step 2: Building Minimum Spanning Tree (" + engine + ")...");
+        MSTAlgorithm mst = engine.build(graph);
+        mst.displayMST();
 
-        if (!kruskal.isValid(graph.getVertices())) {
+        if (!mst.isValid(graph.getVertices())) {
             System.out.println("Error: MST is not valid!");
             return;
         }
 
         waitForUser();
 
-        List<Edge> mstEdges = kruskal.getMSTEdges();
+        List<Edge> mstEdges = mst.getMSTEdges();
         Edge edgeToRemove = selectEdgeToRemove(mstEdges);
 
         System.out.println("Step 3: Removing edge and finding replacement...");
         MSTReplacer replacer = new MSTReplacer(graph, mstEdges);
+        replacer.setListener(new ConsoleListener());
         Edge replacementEdge = replacer.removeAndReplace(edgeToRemove);
 
         waitForUser();
@@ -45,7 +51,7 @@ public class Main {
         System.out.println("Step 4: Final Result...");
         replacer.displayCurrentMST();
 
-        printSummary(edgeToRemove, replacementEdge, kruskal.getTotalWeight(),
+        printSummary(edgeToRemove, replacementEdge, mst.getTotalWeight(),
                 Graph.calculateTotalWeight(replacer.getCurrentMSTEdges()));
 
         System.out.println("Step 5: Generating performance report...");
@@ -91,7 +97,7 @@ public class Main {
     }
 
     private static void printSummary(Edge removed, Edge replacement,
-                                     int originalWeight, int newWeight) {
+                                     long originalWeight, long newWeight) {
         System.out.println("==========================================");
         System.out.println("               SUMMARY");
         System.out.println("==========================================");
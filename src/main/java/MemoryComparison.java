@@ -0,0 +1,46 @@
+import graph.CompactGraph;
+import graph.Graph;
+import java.util.Random;
+
+public class MemoryComparison {
+
+    public static void main(String[] args) {
+        int vertices = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int edges = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+
+        System.out.println("=== MEMORY PER EDGE ===");
+        System.out.println("Vertices: " + vertices + ", Edges: " + edges);
+
+        long before = usedHeap();
+        Graph graph = buildRandomGraph(vertices, edges, 42);
+        long graphBytes = usedHeap() - before;
+
+        before = usedHeap();
+        CompactGraph compact = CompactGraph.fromGraph(graph);
+        long compactBytes = usedHeap() - before;
+
+        System.out.printf("Graph (List<List<Edge>>): %.1f bytes/edge%n", (double) graphBytes / edges);
+        System.out.printf("CompactGraph (CSR):       %.1f bytes/edge (measured), %.1f bytes/edge (array sizes)%n",
+                (double) compactBytes / edges, compact.getBytesPerEdge());
+
+        // Keep both alive until after the measurements
+        System.out.println("Check: " + graph.getVertices() + " / " + compact.getEdgeCount());
+    }
+
+    private static Graph buildRandomGraph(int vertices, int edges, long seed) {
+        Random random = new Random(seed);
+        Graph graph = new Graph(vertices);
+        for (int i = 0; i < edges; i++) {
+            graph.addEdge(random.nextInt(vertices), random.nextInt(vertices), random.nextInt(1000));
+        }
+        return graph;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
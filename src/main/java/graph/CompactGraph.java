@@ -0,0 +1,162 @@
+package graph;
+
+import java.nio.IntBuffer;
+import java.util.*;
+
+// Compressed sparse row (CSR) representation: every edge is stored once by id as a
+// (source, destination, weight) record, and the adjacency of vertex v occupies
+// [offsets[v], offsets[v + 1]) in the targets/adjacentWeights/adjacentEdgeIds arrays.
+// Heap graphs read plain int[] arrays; only GraphFile's memory-mapped graphs use the
+// IntBuffer-backed MappedCompactGraph subclass, so as long as no file is mapped the
+// accessors stay monomorphic for the JIT and free of buffer bounds checks.
+public class CompactGraph {
+    static final int RECORD_INTS = 3;
+
+    private final int vertices;
+    private final int edgeCount;
+    private final int[] edges;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] adjacentWeights;
+    private final int[] adjacentEdgeIds;
+
+    CompactGraph(int vertices, int edgeCount, int[] edges, int[] offsets,
+                 int[] targets, int[] adjacentWeights, int[] adjacentEdgeIds) {
+        this.vertices = vertices;
+        this.edgeCount = edgeCount;
+        this.edges = edges;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.adjacentWeights = adjacentWeights;
+        this.adjacentEdgeIds = adjacentEdgeIds;
+    }
+
+    // Builds the CSR adjacency on the heap for the given edge records
+    static CompactGraph fromRecords(int vertices, int edgeCount, int[] edges) {
+        int[] offsets = new int[vertices + 1];
+        for (int i = 0; i < edgeCount; i++) {
+            offsets[edges[RECORD_INTS * i] + 1]++;
+            offsets[edges[RECORD_INTS * i + 1] + 1]++;
+        }
+        for (int v = 0; v < vertices; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        int[] targets = new int[2 * edgeCount];
+        int[] adjacentWeights = new int[2 * edgeCount];
+        int[] adjacentEdgeIds = new int[2 * edgeCount];
+        int[] next = Arrays.copyOf(offsets, vertices);
+        for (int i = 0; i < edgeCount; i++) {
+            int source = edges[RECORD_INTS * i];
+            int destination = edges[RECORD_INTS * i + 1];
+            int weight = edges[RECORD_INTS * i + 2];
+
+            int slot = next[source]++;
+            targets[slot] = destination;
+            adjacentWeights[slot] = weight;
+            adjacentEdgeIds[slot] = i;
+
+            slot = next[destination]++;
+            targets[slot] = source;
+            adjacentWeights[slot] = weight;
+            adjacentEdgeIds[slot] = i;
+        }
+        return new CompactGraph(vertices, edgeCount, edges, offsets, targets, adjacentWeights, adjacentEdgeIds);
+    }
+
+    public static CompactGraph fromEdges(int vertices, List<Edge> edges) {
+        int[] records = new int[RECORD_INTS * edges.size()];
+        for (int i = 0; i < edges.size(); i++) {
+            Edge edge = edges.get(i);
+            if (edge.getSource() < 0 || edge.getSource() >= vertices ||
+                    edge.getDestination() < 0 || edge.getDestination() >= vertices) {
+                throw new IllegalArgumentException("Vertex out of range");
+            }
+            records[RECORD_INTS * i] = edge.getSource();
+            records[RECORD_INTS * i + 1] = edge.getDestination();
+            records[RECORD_INTS * i + 2] = edge.getWeight();
+        }
+        return fromRecords(vertices, edges.size(), records);
+    }
+
+    public static CompactGraph fromGraph(Graph graph) {
+        return fromEdges(graph.getVertices(), graph.getEdges());
+    }
+
+    public int getVertices() { return vertices; }
+    public int getEdgeCount() { return edgeCount; }
+
+    public int getSource(int edgeId) { return edges[RECORD_INTS * edgeId]; }
+    public int getDestination(int edgeId) { return edges[RECORD_INTS * edgeId + 1]; }
+    public int getWeight(int edgeId) { return edges[RECORD_INTS * edgeId + 2]; }
+
+    public Edge getEdge(int edgeId) {
+        return new Edge(getSource(edgeId), getDestination(edgeId), getWeight(edgeId));
+    }
+
+    public List<Edge> getEdges() {
+        List<Edge> result = new ArrayList<>(edgeCount);
+        for (int i = 0; i < edgeCount; i++) {
+            result.add(getEdge(i));
+        }
+        return result;
+    }
+
+    // Adjacency slots of vertex v are [adjacencyStart(v), adjacencyEnd(v))
+    public int adjacencyStart(int vertex) { return offsets[vertex]; }
+    public int adjacencyEnd(int vertex) { return offsets[vertex + 1]; }
+    public int degree(int vertex) { return adjacencyEnd(vertex) - adjacencyStart(vertex); }
+
+    public int getTarget(int slot) { return targets[slot]; }
+    public int getAdjacentWeight(int slot) { return adjacentWeights[slot]; }
+    public int getAdjacentEdgeId(int slot) { return adjacentEdgeIds[slot]; }
+
+    // Returns the id of an edge u -- v with the given weight, or -1 if there is none
+    public int findEdgeId(int u, int v, int weight) {
+        for (int slot = adjacencyStart(u); slot < adjacencyEnd(u); slot++) {
+            if (getTarget(slot) == v && getAdjacentWeight(slot) == weight) {
+                return getAdjacentEdgeId(slot);
+            }
+        }
+        return -1;
+    }
+
+    // Maps each edge of the list to a distinct edge id, so parallel duplicates stay apart
+    public int[] findEdgeIds(List<Edge> edgeList) {
+        int[] ids = new int[edgeList.size()];
+        BitSet used = new BitSet(edgeCount);
+        for (int i = 0; i < edgeList.size(); i++) {
+            Edge edge = edgeList.get(i);
+            ids[i] = -1;
+            for (int slot = adjacencyStart(edge.getSource()); slot < adjacencyEnd(edge.getSource()); slot++) {
+                int edgeId = getAdjacentEdgeId(slot);
+                if (getTarget(slot) == edge.getDestination() &&
+                        getAdjacentWeight(slot) == edge.getWeight() && !used.get(edgeId)) {
+                    used.set(edgeId);
+                    ids[i] = edgeId;
+                    break;
+                }
+            }
+            if (ids[i] == -1) {
+                throw new IllegalArgumentException("Edge not in graph: " + edge);
+            }
+        }
+        return ids;
+    }
+
+    // Read-only views of each section, for GraphFile.write
+    IntBuffer edgeRecords() { return IntBuffer.wrap(edges, 0, RECORD_INTS * edgeCount).asReadOnlyBuffer(); }
+    IntBuffer offsets() { return IntBuffer.wrap(offsets).asReadOnlyBuffer(); }
+    IntBuffer targets() { return IntBuffer.wrap(targets).asReadOnlyBuffer(); }
+    IntBuffer adjacentWeights() { return IntBuffer.wrap(adjacentWeights).asReadOnlyBuffer(); }
+    IntBuffer adjacentEdgeIds() { return IntBuffer.wrap(adjacentEdgeIds).asReadOnlyBuffer(); }
+
+    public long getMemoryFootprintBytes() {
+        long ints = (long) edgeCount * RECORD_INTS + (vertices + 1) + (long) edgeCount * 2 * 3;
+        return ints * Integer.BYTES;
+    }
+
+    public double getBytesPerEdge() {
+        return edgeCount == 0 ? 0 : (double) getMemoryFootprintBytes() / edgeCount;
+    }
+}
@@ -0,0 +1,74 @@
+package graph;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// Wait-free style union-find (Anderson & Woll): parents live in an AtomicIntegerArray,
+// roots are linked with a single CAS by random priority instead of rank, and find
+// shortens paths with CAS path splitting. Safe to call from any number of threads.
+public class ConcurrentUnionFind {
+    private final AtomicIntegerArray parent;
+    private final int[] priority;
+    private final AtomicInteger components;
+
+    public ConcurrentUnionFind(int n) {
+        this(n, 0x9E3779B97F4A7C15L);
+    }
+
+    public ConcurrentUnionFind(int n, long seed) {
+        parent = new AtomicIntegerArray(n);
+        priority = new int[n];
+        components = new AtomicInteger(n);
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < n; i++) {
+            parent.set(i, i);
+            priority[i] = random.nextInt();
+        }
+    }
+
+    public int find(int x) {
+        while (true) {
+            int p = parent.get(x);
+            if (p == x) return x;
+            int grandparent = parent.get(p);
+            if (p != grandparent) {
+                parent.compareAndSet(x, p, grandparent);
+            }
+            x = p;
+        }
+    }
+
+    public boolean union(int x, int y) {
+        while (true) {
+            x = find(x);
+            y = find(y);
+            if (x == y) return false;
+
+            // The lower-priority root goes under the higher one; ids break ties
+            if (priority[x] > priority[y] || (priority[x] == priority[y] && x > y)) {
+                int tmp = x;
+                x = y;
+                y = tmp;
+            }
+            if (parent.compareAndSet(x, x, y)) {
+                components.decrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    public boolean connected(int x, int y) {
+        while (true) {
+            x = find(x);
+            y = find(y);
+            if (x == y) return true;
+            // x was a root when both finds finished, so the sets were disjoint at that point
+            if (parent.get(x) == x) return false;
+        }
+    }
+
+    public int getComponentCount() {
+        return components.get();
+    }
+}
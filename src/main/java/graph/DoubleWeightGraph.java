@@ -0,0 +1,63 @@
+package graph;
+
+import java.util.Arrays;
+
+// Edge list with double weights in parallel primitive arrays: no Edge objects, no
+// boxing, and the total weight is kept as edges are added. NaN weights are rejected.
+public class DoubleWeightGraph {
+    private final int vertices;
+    private int[] sources;
+    private int[] destinations;
+    private double[] weights;
+    private int edgeCount;
+    private double totalWeight;
+
+    public DoubleWeightGraph(int vertices) {
+        this(vertices, 16);
+    }
+
+    public DoubleWeightGraph(int vertices, int expectedEdges) {
+        this.vertices = vertices;
+        int capacity = Math.max(1, expectedEdges);
+        this.sources = new int[capacity];
+        this.destinations = new int[capacity];
+        this.weights = new double[capacity];
+    }
+
+    public static DoubleWeightGraph fromGraph(Graph graph) {
+        DoubleWeightGraph result = new DoubleWeightGraph(graph.getVertices(), graph.getEdgeCount());
+        for (Edge edge : graph.getEdges()) {
+            result.addEdge(edge.getSource(), edge.getDestination(), edge.getWeight());
+        }
+        return result;
+    }
+
+    public void addEdge(int source, int destination, double weight) {
+        if (source < 0 || source >= vertices || destination < 0 || destination >= vertices) {
+            throw new IllegalArgumentException("Vertex out of range");
+        }
+        if (Double.isNaN(weight)) {
+            throw new IllegalArgumentException("NaN weight");
+        }
+        if (edgeCount == sources.length) {
+            sources = Arrays.copyOf(sources, edgeCount * 2);
+            destinations = Arrays.copyOf(destinations, edgeCount * 2);
+            weights = Arrays.copyOf(weights, edgeCount * 2);
+        }
+        sources[edgeCount] = source;
+        destinations[edgeCount] = destination;
+        weights[edgeCount] = weight;
+        edgeCount++;
+        totalWeight += weight;
+    }
+
+    public int getVertices() { return vertices; }
+    public int getEdgeCount() { return edgeCount; }
+    public int getSource(int edgeId) { return sources[edgeId]; }
+    public int getDestination(int edgeId) { return destinations[edgeId]; }
+    public double getWeight(int edgeId) { return weights[edgeId]; }
+    public double getTotalWeight() { return totalWeight; }
+
+    // Copy of the weights, indexed by edge id
+    public double[] getWeights() { return Arrays.copyOf(weights, edgeCount); }
+}
@@ -6,6 +6,8 @@ public class Graph {
     private final int vertices;
     private final List<Edge> edges;
     private final List<List<Edge>> adjacencyList;
+    private int modificationCount; // bumped by every addEdge, used to invalidate cached results
+    private long totalWeight; // maintained by addEdge, never re-summed
 
     public Graph(int vertices) {
         this.vertices = vertices;
@@ -21,6 +23,8 @@ public class Graph {
         edges.add(edge);
         adjacencyList.get(source).add(edge);
         adjacencyList.get(destination).add(new Edge(destination, source, weight));
+        modificationCount++;
+        totalWeight += weight;
     }
 
     public void addEdge(Edge edge) {
@@ -28,6 +32,9 @@ public class Graph {
     }
 
     public int getVertices() { return vertices; }
+    public int getEdgeCount() { return edges.size(); }
+    public int getModificationCount() { return modificationCount; }
+    public long getTotalWeight() { return totalWeight; }
     public List<Edge> getEdges() { return new ArrayList<>(edges); }
     public List<List<Edge>> getAdjacencyList() { return adjacencyList; }
 
@@ -60,7 +67,12 @@ public class Graph {
         return graph;
     }
 
-    public static int calculateTotalWeight(List<Edge> edges) {
-        return edges.stream().mapToInt(Edge::getWeight).sum();
+    // Summed in a long: int weights of a large graph overflow an int total
+    public static long calculateTotalWeight(List<Edge> edges) {
+        long total = 0;
+        for (int i = 0; i < edges.size(); i++) {
+            total += edges.get(i).getWeight();
+        }
+        return total;
     }
 }
\ No newline at end of file
@@ -0,0 +1,192 @@
+package graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Binary graph file, little-endian:
+//   header (64 bytes): magic "MSTG", version, flags, vertices, edge count (long), MST edge count
+//   edges:  edgeCount records of (source, destination, weight) ints
+//   CSR:    offsets (V + 1), targets (2E), weights (2E), edge ids (2E)      if FLAG_CSR
+//   MST:    MST edge ids                                                    if FLAG_MST
+// open() memory-maps every section read-only, so a graph with a CSR section is backed
+// by the page cache rather than copied onto the heap; without one, the records are
+// read onto the heap and the CSR is built there. Each section must stay below 2 GB.
+public class GraphFile {
+    public static final int MAGIC = 0x4754534D; // "MSTG" read as little-endian bytes
+    public static final int VERSION = 1;
+    public static final int FLAG_CSR = 1;
+    public static final int FLAG_MST = 2;
+    static final int HEADER_BYTES = 64;
+
+    private final CompactGraph graph;
+    private final IntBuffer mstEdgeIds;
+    private final boolean csrMapped;
+
+    private GraphFile(CompactGraph graph, IntBuffer mstEdgeIds, boolean csrMapped) {
+        this.graph = graph;
+        this.mstEdgeIds = mstEdgeIds;
+        this.csrMapped = csrMapped;
+    }
+
+    public static void write(Path path, CompactGraph graph, boolean includeCsr) throws IOException {
+        write(path, graph, includeCsr, null);
+    }
+
+    public static void write(Path path, CompactGraph graph, boolean includeCsr, List<Edge> mstEdges)
+            throws IOException {
+        int[] mstIds = mstEdges == null ? null : graph.findEdgeIds(mstEdges);
+        int flags = (includeCsr ? FLAG_CSR : 0) | (mstIds != null ? FLAG_MST : 0);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putInt(flags).putInt(graph.getVertices())
+                    .putLong(graph.getEdgeCount()).putInt(mstIds == null ? 0 : mstIds.length);
+            header.clear();
+            writeFully(channel, header);
+
+            writeInts(channel, graph.edgeRecords());
+            if (includeCsr) {
+                writeInts(channel, graph.offsets());
+                writeInts(channel, graph.targets());
+                writeInts(channel, graph.adjacentWeights());
+                writeInts(channel, graph.adjacentEdgeIds());
+            }
+            if (mstIds != null) {
+                writeInts(channel, IntBuffer.wrap(mstIds));
+            }
+        }
+    }
+
+    public static GraphFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    throw new IOException("Truncated graph file header: " + path);
+                }
+            }
+            header.flip();
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a graph file: " + path);
+            }
+            int version = header.getInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported graph file version " + version + ": " + path);
+            }
+            int flags = header.getInt();
+            int vertices = header.getInt();
+            long edgeCountLong = header.getLong();
+            int mstEdgeCount = header.getInt();
+            if (edgeCountLong * CompactGraph.RECORD_INTS > Integer.MAX_VALUE) {
+                throw new IOException("Too many edges for one mapped section: " + edgeCountLong);
+            }
+            int edgeCount = (int) edgeCountLong;
+
+            long position = HEADER_BYTES;
+            IntBuffer edges = map(channel, position, (long) CompactGraph.RECORD_INTS * edgeCount);
+            position += (long) CompactGraph.RECORD_INTS * edgeCount * Integer.BYTES;
+
+            CompactGraph graph;
+            boolean csrMapped = (flags & FLAG_CSR) != 0;
+            if (csrMapped) {
+                IntBuffer offsets = map(channel, position, vertices + 1L);
+                position += (vertices + 1L) * Integer.BYTES;
+                IntBuffer targets = map(channel, position, 2L * edgeCount);
+                position += 2L * edgeCount * Integer.BYTES;
+                IntBuffer weights = map(channel, position, 2L * edgeCount);
+                position += 2L * edgeCount * Integer.BYTES;
+                IntBuffer edgeIds = map(channel, position, 2L * edgeCount);
+                position += 2L * edgeCount * Integer.BYTES;
+                graph = new MappedCompactGraph(vertices, edgeCount, edges, offsets, targets, weights, edgeIds);
+            } else {
+                int[] records = new int[CompactGraph.RECORD_INTS * edgeCount];
+                edges.get(records);
+                graph = CompactGraph.fromRecords(vertices, edgeCount, records);
+            }
+
+            IntBuffer mstEdgeIds = null;
+            if ((flags & FLAG_MST) != 0) {
+                if (mstEdgeCount < 0 || mstEdgeCount > edgeCount) {
+                    throw new IOException("Invalid MST edge count " + mstEdgeCount + ": " + path);
+                }
+                mstEdgeIds = map(channel, position, mstEdgeCount);
+                // One pass over the ids, so a corrupt section fails here and not in the caller
+                for (int i = 0; i < mstEdgeCount; i++) {
+                    int id = mstEdgeIds.get(i);
+                    if (id < 0 || id >= edgeCount) {
+                        throw new IOException("MST edge id " + id + " out of range at index " + i + ": " + path);
+                    }
+                }
+            }
+            return new GraphFile(graph, mstEdgeIds, csrMapped);
+        }
+    }
+
+    private static IntBuffer map(FileChannel channel, long position, long ints) throws IOException {
+        long bytes = ints * Integer.BYTES;
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IOException("Section too large to map: " + bytes + " bytes");
+        }
+        if (position + bytes > channel.size()) {
+            throw new IOException("Truncated graph file section at byte " + position);
+        }
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, bytes);
+        return buffer.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    private static void writeInts(FileChannel channel, IntBuffer ints) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+        IntBuffer chunkInts = chunk.asIntBuffer();
+        while (ints.hasRemaining()) {
+            int count = Math.min(ints.remaining(), chunkInts.capacity());
+            chunkInts.clear();
+            for (int i = 0; i < count; i++) {
+                chunkInts.put(ints.get());
+            }
+            chunk.clear().limit(count * Integer.BYTES);
+            writeFully(channel, chunk);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    public CompactGraph getGraph() { return graph; }
+    public boolean hasMST() { return mstEdgeIds != null; }
+    public boolean isCsrMapped() { return csrMapped; }
+
+    // Read-only view of the stored MST edge ids; empty if the file has no MST section
+    public IntBuffer getMSTEdgeIds() {
+        return mstEdgeIds == null ? IntBuffer.allocate(0) : mstEdgeIds.duplicate();
+    }
+
+    public List<Edge> getMSTEdges() {
+        List<Edge> edges = new ArrayList<>();
+        IntBuffer ids = getMSTEdgeIds();
+        while (ids.hasRemaining()) {
+            edges.add(graph.getEdge(ids.get()));
+        }
+        return edges;
+    }
+
+    public long getMSTWeight() {
+        long weight = 0;
+        IntBuffer ids = getMSTEdgeIds();
+        while (ids.hasRemaining()) {
+            weight += graph.getWeight(ids.get());
+        }
+        return weight;
+    }
+}
@@ -0,0 +1,258 @@
+package graph;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+// Seeded large-scale graph generators writing straight into CompactGraph records.
+// Work is cut into fixed blocks of BLOCK_EDGES edges (or rows, or cells), and each
+// block draws from its own SplittableRandom seeded by (seed, block), so the output
+// depends only on the seed, never on the number of threads. Weights are uniform in
+// [1, maxWeight] except for the geometric graph, where they are scaled distances.
+public class GraphGenerator {
+    static final int BLOCK_EDGES = 1 << 16;
+
+    private final long seed;
+    private final int maxWeight;
+    private final ForkJoinPool pool;
+
+    public GraphGenerator(long seed) {
+        this(seed, 1_000_000, ForkJoinPool.commonPool());
+    }
+
+    public GraphGenerator(long seed, int maxWeight, ForkJoinPool pool) {
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("Max weight must be positive");
+        }
+        this.seed = seed;
+        this.maxWeight = maxWeight;
+        this.pool = pool;
+    }
+
+    // G(n, m): m edges between uniformly random distinct endpoints (parallel edges allowed)
+    public CompactGraph erdosRenyi(int vertices, int edges) {
+        if (vertices < 2) {
+            throw new IllegalArgumentException("Need at least 2 vertices");
+        }
+        int[] records = newRecords(edges);
+        forEachBlock(edges, (block, from, to) -> {
+            SplittableRandom random = random(block);
+            for (int e = from; e < to; e++) {
+                int u = random.nextInt(vertices);
+                int v = random.nextInt(vertices - 1);
+                put(records, e, u, v >= u ? v + 1 : v, weight(random));
+            }
+        });
+        return build(vertices, edges, records);
+    }
+
+    // rows x cols lattice: horizontal edges first, then vertical ones, row by row
+    public CompactGraph grid(int rows, int cols) {
+        if (rows < 1 || cols < 1 || (long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid grid size: " + rows + " x " + cols);
+        }
+        long horizontal = (long) rows * (cols - 1);
+        long total = horizontal + (long) (rows - 1) * cols;
+        int edges = checkedEdgeCount(total);
+        int[] records = newRecords(edges);
+        forEachBlock(edges, (block, from, to) -> {
+            SplittableRandom random = random(block);
+            for (int e = from; e < to; e++) {
+                if (e < horizontal) {
+                    int row = e / (cols - 1);
+                    int col = e % (cols - 1);
+                    put(records, e, row * cols + col, row * cols + col + 1, weight(random));
+                } else {
+                    int v = (int) (e - horizontal);
+                    put(records, e, v, v + cols, weight(random));
+                }
+            }
+        });
+        return build(rows * cols, edges, records);
+    }
+
+    // Path 0 -- 1 -- ... -- (V - 1): worst case depth for traversals and tree paths
+    public CompactGraph path(int vertices) {
+        int edges = Math.max(0, vertices - 1);
+        int[] records = newRecords(edges);
+        forEachBlock(edges, (block, from, to) -> {
+            SplittableRandom random = random(block);
+            for (int e = from; e < to; e++) {
+                put(records, e, e, e + 1, weight(random));
+            }
+        });
+        return build(vertices, edges, records);
+    }
+
+    // R-MAT power-law graph on 2^scale vertices: each edge descends scale levels of the
+    // adjacency matrix, picking quadrants with probabilities a, b, c and 1 - a - b - c
+    public CompactGraph rmat(int scale, int edges, double a, double b, double c) {
+        if (scale < 1 || scale > 30 || a < 0 || b < 0 || c < 0 || a + b + c > 1) {
+            throw new IllegalArgumentException("Invalid R-MAT parameters");
+        }
+        int[] records = newRecords(edges);
+        forEachBlock(edges, (block, from, to) -> {
+            SplittableRandom random = random(block);
+            for (int e = from; e < to; e++) {
+                int u = 0;
+                int v = 0;
+                for (int level = 0; level < scale; level++) {
+                    double p = random.nextDouble();
+                    u <<= 1;
+                    v <<= 1;
+                    if (p >= a + b + c) {
+                        u |= 1;
+                        v |= 1;
+                    } else if (p >= a + b) {
+                        u |= 1;
+                    } else if (p >= a) {
+                        v |= 1;
+                    }
+                }
+                put(records, e, u, v, weight(random));
+            }
+        });
+        return build(1 << scale, edges, records);
+    }
+
+    public CompactGraph rmat(int scale, int edges) {
+        return rmat(scale, edges, 0.57, 0.19, 0.19); // Graph500 parameters
+    }
+
+    // Random geometric graph: uniform points in the unit square, an edge between every
+    // pair closer than radius, weighted by distance * maxWeight. Points are bucketed in
+    // radius-sized cells; cells are counted, then filled, so edge ids are deterministic.
+    public CompactGraph randomGeometric(int vertices, double radius) {
+        if (radius <= 0 || radius > 1) {
+            throw new IllegalArgumentException("Radius must be in (0, 1]");
+        }
+        double[] x = new double[vertices];
+        double[] y = new double[vertices];
+        forEachBlock(vertices, (block, from, to) -> {
+            SplittableRandom random = random(block);
+            for (int v = from; v < to; v++) {
+                x[v] = random.nextDouble();
+                y[v] = random.nextDouble();
+            }
+        });
+
+        // Cells at least radius wide, so neighbours lie in adjacent cells; no more than
+        // about one cell per point, so a tiny radius cannot allocate a huge grid
+        int side = Math.max(1, Math.min((int) (1 / radius), Math.min((int) Math.sqrt(vertices), 1 << 15)));
+        int cells = side * side;
+        int[] cellStart = new int[cells + 1];
+        int[] cellOf = new int[vertices];
+        for (int v = 0; v < vertices; v++) {
+            cellOf[v] = cellIndex(x[v], side) * side + cellIndex(y[v], side);
+            cellStart[cellOf[v] + 1]++;
+        }
+        for (int cell = 0; cell < cells; cell++) {
+            cellStart[cell + 1] += cellStart[cell];
+        }
+        int[] pointsByCell = new int[vertices];
+        int[] next = new int[cells];
+        System.arraycopy(cellStart, 0, next, 0, cells);
+        for (int v = 0; v < vertices; v++) {
+            pointsByCell[next[cellOf[v]]++] = v;
+        }
+
+        double radiusSquared = radius * radius;
+        long[] edgesPerCell = new long[cells + 1];
+        pool.submit(() -> IntStream.range(0, cells).parallel().forEach(cell ->
+                edgesPerCell[cell + 1] = scanCell(cell, side, cellStart, pointsByCell, x, y, radiusSquared, null, 0)
+        )).join();
+        for (int cell = 0; cell < cells; cell++) {
+            edgesPerCell[cell + 1] += edgesPerCell[cell];
+        }
+        int edges = checkedEdgeCount(edgesPerCell[cells]);
+        int[] records = newRecords(edges);
+        pool.submit(() -> IntStream.range(0, cells).parallel().forEach(cell ->
+                scanCell(cell, side, cellStart, pointsByCell, x, y, radiusSquared, records, (int) edgesPerCell[cell])
+        )).join();
+        return build(vertices, edges, records);
+    }
+
+    // Pairs (u in cell, v in cell or a later neighbouring cell) within the radius; with
+    // records == null only counts them, otherwise writes them from edge id firstEdge
+    private long scanCell(int cell, int side, int[] cellStart, int[] pointsByCell, double[] x, double[] y,
+                          double radiusSquared, int[] records, int firstEdge) {
+        int cx = cell / side;
+        int cy = cell % side;
+        long found = 0;
+        for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+            int u = pointsByCell[i];
+            for (int dx = 0; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    if (dx == 0 && dy < 0) continue; // each cell pair is visited once
+                    int nx = cx + dx;
+                    int ny = cy + dy;
+                    if (nx >= side || ny < 0 || ny >= side) continue;
+                    int other = nx * side + ny;
+                    int start = other == cell ? i + 1 : cellStart[other];
+                    for (int j = start; j < cellStart[other + 1]; j++) {
+                        int v = pointsByCell[j];
+                        double ddx = x[u] - x[v];
+                        double ddy = y[u] - y[v];
+                        double distanceSquared = ddx * ddx + ddy * ddy;
+                        if (distanceSquared < radiusSquared) {
+                            if (records != null) {
+                                int w = Math.max(1, (int) Math.round(Math.sqrt(distanceSquared) * maxWeight));
+                                put(records, firstEdge + (int) found, u, v, w);
+                            }
+                            found++;
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private static int cellIndex(double coordinate, int side) {
+        return Math.min(side - 1, (int) (coordinate * side));
+    }
+
+    private interface Block {
+        void run(int block, int from, int to);
+    }
+
+    private void forEachBlock(int count, Block body) {
+        int blocks = (count + BLOCK_EDGES - 1) / BLOCK_EDGES;
+        pool.submit(() -> IntStream.range(0, blocks).parallel().forEach(block ->
+                body.run(block, block * BLOCK_EDGES, Math.min(count, (block + 1) * BLOCK_EDGES))
+        )).join();
+    }
+
+    private SplittableRandom random(int block) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + block);
+    }
+
+    private int weight(SplittableRandom random) {
+        return 1 + random.nextInt(maxWeight);
+    }
+
+    private static int[] newRecords(int edges) {
+        if (edges < 0) {
+            throw new IllegalArgumentException("Edge count must be non-negative");
+        }
+        return new int[CompactGraph.RECORD_INTS * checkedEdgeCount(edges)];
+    }
+
+    private static int checkedEdgeCount(long count) {
+        if (count * CompactGraph.RECORD_INTS > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many edges for one CompactGraph: " + count);
+        }
+        return (int) count;
+    }
+
+    private static void put(int[] records, int edgeId, int source, int destination, int weight) {
+        int base = CompactGraph.RECORD_INTS * edgeId;
+        records[base] = source;
+        records[base + 1] = destination;
+        records[base + 2] = weight;
+    }
+
+    private static CompactGraph build(int vertices, int edges, int[] records) {
+        return CompactGraph.fromRecords(vertices, edges, records);
+    }
+}
@@ -0,0 +1,191 @@
+package graph;
+
+import java.util.Arrays;
+
+// Link-cut tree over nodes [0, capacity) with a per-node value and path maximum.
+// All operations are amortized O(log n). Edges of a spanning forest are usually
+// modelled as extra nodes carrying the edge weight, so that pathMax(u, v) returns
+// the heaviest edge node on the tree path between two vertex nodes.
+public class LinkCutTree {
+    private final int[] left;
+    private final int[] right;
+    private final int[] parent;
+    private final int[] value;
+    private final int[] maxNode;
+    private final boolean[] reversed;
+    private int[] pathBuffer = new int[64];
+
+    public LinkCutTree(int capacity) {
+        this.left = new int[capacity];
+        this.right = new int[capacity];
+        this.parent = new int[capacity];
+        this.value = new int[capacity];
+        this.maxNode = new int[capacity];
+        this.reversed = new boolean[capacity];
+        Arrays.fill(left, -1);
+        Arrays.fill(right, -1);
+        Arrays.fill(parent, -1);
+        Arrays.fill(value, Integer.MIN_VALUE);
+        for (int i = 0; i < capacity; i++) {
+            maxNode[i] = i;
+        }
+    }
+
+    public int getValue(int node) { return value[node]; }
+
+    public void setValue(int node, int newValue) {
+        access(node);
+        splay(node);
+        value[node] = newValue;
+        update(node);
+    }
+
+    public void reset(int node) {
+        left[node] = -1;
+        right[node] = -1;
+        parent[node] = -1;
+        reversed[node] = false;
+        value[node] = Integer.MIN_VALUE;
+        maxNode[node] = node;
+    }
+
+    public boolean connected(int u, int v) {
+        return u == v || findRoot(u) == findRoot(v);
+    }
+
+    public void link(int child, int newParent) {
+        makeRoot(child);
+        parent[child] = newParent;
+    }
+
+    public void cut(int u, int v) {
+        makeRoot(u);
+        access(v);
+        splay(v);
+        push(u);
+        if (left[v] != u || right[u] != -1) {
+            throw new IllegalArgumentException("Nodes are not adjacent: " + u + ", " + v);
+        }
+        left[v] = -1;
+        parent[u] = -1;
+        update(v);
+    }
+
+    // Node with the maximum value on the path u .. v; both must be connected
+    public int pathMax(int u, int v) {
+        makeRoot(u);
+        access(v);
+        splay(v);
+        return maxNode[v];
+    }
+
+    public int findRoot(int node) {
+        access(node);
+        splay(node);
+        int current = node;
+        push(current);
+        while (left[current] != -1) {
+            current = left[current];
+            push(current);
+        }
+        splay(current);
+        return current;
+    }
+
+    private void makeRoot(int node) {
+        access(node);
+        splay(node);
+        reversed[node] = !reversed[node];
+    }
+
+    private void access(int node) {
+        int last = -1;
+        for (int current = node; current != -1; current = parent[current]) {
+            splay(current);
+            right[current] = last;
+            update(current);
+            last = current;
+        }
+        splay(node);
+    }
+
+    private boolean isRoot(int node) {
+        int p = parent[node];
+        return p == -1 || (left[p] != node && right[p] != node);
+    }
+
+    private void update(int node) {
+        int best = node;
+        if (left[node] != -1 && value[maxNode[left[node]]] > value[best]) {
+            best = maxNode[left[node]];
+        }
+        if (right[node] != -1 && value[maxNode[right[node]]] > value[best]) {
+            best = maxNode[right[node]];
+        }
+        maxNode[node] = best;
+    }
+
+    private void push(int node) {
+        if (!reversed[node]) return;
+        int tmp = left[node];
+        left[node] = right[node];
+        right[node] = tmp;
+        if (left[node] != -1) reversed[left[node]] = !reversed[left[node]];
+        if (right[node] != -1) reversed[right[node]] = !reversed[right[node]];
+        reversed[node] = false;
+    }
+
+    private void pushFromRoot(int node) {
+        int depth = 0;
+        int current = node;
+        while (!isRoot(current)) {
+            current = parent[current];
+            depth++;
+        }
+        // Push reversal flags top-down along the splay path
+        int[] path = depth < pathBuffer.length ? pathBuffer : (pathBuffer = new int[depth * 2 + 1]);
+        current = node;
+        for (int i = depth; i >= 0; i--) {
+            path[i] = current;
+            current = parent[current];
+        }
+        for (int i = 0; i <= depth; i++) {
+            push(path[i]);
+        }
+    }
+
+    private void rotate(int node) {
+        int p = parent[node];
+        int g = parent[p];
+        if (!isRoot(p)) {
+            if (left[g] == p) left[g] = node;
+            else right[g] = node;
+        }
+        parent[node] = g;
+        if (left[p] == node) {
+            left[p] = right[node];
+            if (right[node] != -1) parent[right[node]] = p;
+            right[node] = p;
+        } else {
+            right[p] = left[node];
+            if (left[node] != -1) parent[left[node]] = p;
+            left[node] = p;
+        }
+        parent[p] = node;
+        update(p);
+        update(node);
+    }
+
+    private void splay(int node) {
+        pushFromRoot(node);
+        while (!isRoot(node)) {
+            int p = parent[node];
+            if (!isRoot(p)) {
+                int g = parent[p];
+                boolean zigZig = (left[g] == p) == (left[p] == node);
+                rotate(zigZig ? p : node);
+            }
+            rotate(node);
+        }
+    }
+}
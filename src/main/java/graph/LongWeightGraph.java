@@ -0,0 +1,60 @@
+package graph;
+
+import java.util.Arrays;
+
+// Edge list with 64-bit weights in parallel primitive arrays: no Edge objects, no
+// boxing, and the total weight is kept in a long as edges are added.
+public class LongWeightGraph {
+    private final int vertices;
+    private int[] sources;
+    private int[] destinations;
+    private long[] weights;
+    private int edgeCount;
+    private long totalWeight;
+
+    public LongWeightGraph(int vertices) {
+        this(vertices, 16);
+    }
+
+    public LongWeightGraph(int vertices, int expectedEdges) {
+        this.vertices = vertices;
+        int capacity = Math.max(1, expectedEdges);
+        this.sources = new int[capacity];
+        this.destinations = new int[capacity];
+        this.weights = new long[capacity];
+    }
+
+    public static LongWeightGraph fromGraph(Graph graph) {
+        LongWeightGraph result = new LongWeightGraph(graph.getVertices(), graph.getEdgeCount());
+        for (Edge edge : graph.getEdges()) {
+            result.addEdge(edge.getSource(), edge.getDestination(), edge.getWeight());
+        }
+        return result;
+    }
+
+    public void addEdge(int source, int destination, long weight) {
+        if (source < 0 || source >= vertices || destination < 0 || destination >= vertices) {
+            throw new IllegalArgumentException("Vertex out of range");
+        }
+        if (edgeCount == sources.length) {
+            sources = Arrays.copyOf(sources, edgeCount * 2);
+            destinations = Arrays.copyOf(destinations, edgeCount * 2);
+            weights = Arrays.copyOf(weights, edgeCount * 2);
+        }
+        sources[edgeCount] = source;
+        destinations[edgeCount] = destination;
+        weights[edgeCount] = weight;
+        edgeCount++;
+        totalWeight += weight;
+    }
+
+    public int getVertices() { return vertices; }
+    public int getEdgeCount() { return edgeCount; }
+    public int getSource(int edgeId) { return sources[edgeId]; }
+    public int getDestination(int edgeId) { return destinations[edgeId]; }
+    public long getWeight(int edgeId) { return weights[edgeId]; }
+    public long getTotalWeight() { return totalWeight; }
+
+    // Copy of the weights, indexed by edge id
+    public long[] getWeights() { return Arrays.copyOf(weights, edgeCount); }
+}
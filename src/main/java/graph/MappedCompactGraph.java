@@ -0,0 +1,41 @@
+package graph;
+
+import java.nio.IntBuffer;
+
+// CompactGraph whose records and CSR sections are memory-mapped IntBuffers from a
+// GraphFile. Only created by GraphFile.open, so heap graphs never pay for the
+// buffer indirection.
+final class MappedCompactGraph extends CompactGraph {
+    private final IntBuffer edges;
+    private final IntBuffer offsets;
+    private final IntBuffer targets;
+    private final IntBuffer adjacentWeights;
+    private final IntBuffer adjacentEdgeIds;
+
+    MappedCompactGraph(int vertices, int edgeCount, IntBuffer edges, IntBuffer offsets,
+                       IntBuffer targets, IntBuffer adjacentWeights, IntBuffer adjacentEdgeIds) {
+        super(vertices, edgeCount, null, null, null, null, null);
+        this.edges = edges;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.adjacentWeights = adjacentWeights;
+        this.adjacentEdgeIds = adjacentEdgeIds;
+    }
+
+    @Override public int getSource(int edgeId) { return edges.get(RECORD_INTS * edgeId); }
+    @Override public int getDestination(int edgeId) { return edges.get(RECORD_INTS * edgeId + 1); }
+    @Override public int getWeight(int edgeId) { return edges.get(RECORD_INTS * edgeId + 2); }
+
+    @Override public int adjacencyStart(int vertex) { return offsets.get(vertex); }
+    @Override public int adjacencyEnd(int vertex) { return offsets.get(vertex + 1); }
+
+    @Override public int getTarget(int slot) { return targets.get(slot); }
+    @Override public int getAdjacentWeight(int slot) { return adjacentWeights.get(slot); }
+    @Override public int getAdjacentEdgeId(int slot) { return adjacentEdgeIds.get(slot); }
+
+    @Override IntBuffer edgeRecords() { return edges.duplicate(); }
+    @Override IntBuffer offsets() { return offsets.duplicate(); }
+    @Override IntBuffer targets() { return targets.duplicate(); }
+    @Override IntBuffer adjacentWeights() { return adjacentWeights.duplicate(); }
+    @Override IntBuffer adjacentEdgeIds() { return adjacentEdgeIds.duplicate(); }
+}
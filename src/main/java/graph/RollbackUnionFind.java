@@ -0,0 +1,73 @@
+package graph;
+
+import java.util.Arrays;
+
+// Union by size without path compression, so every union can be undone: find is
+// O(log n), and rollback(mark) reverts all unions made since getHistorySize()
+// returned mark. Used for divide and conquer over time, where state must be
+// restored on the way back up.
+public class RollbackUnionFind {
+    private final int[] parent;
+    private final int[] size;
+    private int[] history; // the root attached by each union, in order
+    private int historySize;
+    private int components;
+
+    public RollbackUnionFind(int n) {
+        parent = new int[n];
+        size = new int[n];
+        history = new int[16];
+        components = n;
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+    }
+
+    public int find(int x) {
+        while (parent[x] != x) {
+            x = parent[x];
+        }
+        return x;
+    }
+
+    public boolean union(int x, int y) {
+        int rootX = find(x);
+        int rootY = find(y);
+        if (rootX == rootY) return false;
+
+        if (size[rootX] < size[rootY]) {
+            int tmp = rootX;
+            rootX = rootY;
+            rootY = tmp;
+        }
+        parent[rootY] = rootX;
+        size[rootX] += size[rootY];
+        if (historySize == history.length) {
+            history = Arrays.copyOf(history, historySize * 2);
+        }
+        history[historySize++] = rootY;
+        components--;
+        return true;
+    }
+
+    public boolean connected(int x, int y) {
+        return find(x) == find(y);
+    }
+
+    public int getHistorySize() { return historySize; }
+    public int getComponentCount() { return components; }
+
+    public void rollback(int mark) {
+        if (mark < 0 || mark > historySize) {
+            throw new IllegalArgumentException("Invalid rollback mark: " + mark);
+        }
+        while (historySize > mark) {
+            int child = history[--historySize];
+            int root = parent[child];
+            size[root] -= size[child];
+            parent[child] = child;
+            components++;
+        }
+    }
+}
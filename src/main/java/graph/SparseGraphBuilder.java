@@ -0,0 +1,47 @@
+package graph;
+
+import java.util.Arrays;
+
+// Builds a CompactGraph from edges whose endpoints are arbitrary 64-bit ids. Ids are
+// densified on ingest through a VertexIdMap and the records go straight into a
+// primitive array, so no Long or Edge object is created per edge.
+public class SparseGraphBuilder {
+    private final VertexIdMap idMap;
+    private int[] records;
+    private int edgeCount;
+
+    public SparseGraphBuilder() {
+        this(16, 16);
+    }
+
+    public SparseGraphBuilder(int expectedVertices, int expectedEdges) {
+        this.idMap = new VertexIdMap(expectedVertices);
+        this.records = new int[CompactGraph.RECORD_INTS * Math.max(1, expectedEdges)];
+    }
+
+    public SparseGraphBuilder addEdge(long source, long destination, int weight) {
+        int denseSource = idMap.getOrAdd(source);
+        int denseDestination = idMap.getOrAdd(destination);
+        if (CompactGraph.RECORD_INTS * (edgeCount + 1) > records.length) {
+            records = Arrays.copyOf(records, records.length * 2);
+        }
+        int base = CompactGraph.RECORD_INTS * edgeCount++;
+        records[base] = denseSource;
+        records[base + 1] = denseDestination;
+        records[base + 2] = weight;
+        return this;
+    }
+
+    // Registers a vertex without edges so that it still gets a dense id
+    public int addVertex(long id) {
+        return idMap.getOrAdd(id);
+    }
+
+    public int getEdgeCount() { return edgeCount; }
+    public VertexIdMap getIdMap() { return idMap; }
+
+    public CompactGraph build() {
+        int[] exact = Arrays.copyOf(records, CompactGraph.RECORD_INTS * edgeCount);
+        return CompactGraph.fromRecords(idMap.size(), edgeCount, exact);
+    }
+}
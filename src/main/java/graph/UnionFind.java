@@ -1,9 +1,17 @@
 package graph;
 
 public class UnionFind {
+    // Hook for find/union instrumentation; metrics.MSTListener extends it, so graph
+    // does not depend on metrics
+    public interface Observer {
+        default void onFind(int pathLength) { }
+        default void onUnion() { }
+    }
+
     private final int[] parent;
     private final int[] rank;
     private int components;
+    private Observer listener; // null unless find/union metrics are wanted
 
     public UnionFind(int n) {
         parent = new int[n];
@@ -15,11 +23,34 @@ public class UnionFind {
         }
     }
 
+    public void setListener(Observer listener) {
+        this.listener = listener;
+    }
+
     public int find(int x) {
-        if (parent[x] != x) {
-            parent[x] = find(parent[x]);
+        int root = x;
+        int pathLength = 0;
+        while (parent[root] != root) {
+            root = parent[root];
+            pathLength++;
+        }
+        if (listener != null) {
+            listener.onFind(pathLength);
         }
-        return parent[x];
+        while (parent[x] != root) {
+            int next = parent[x];
+            parent[x] = root;
+            x = next;
+        }
+        return root;
+    }
+
+    // Read-only lookup without path compression; safe for concurrent readers while no union runs
+    public int findRoot(int x) {
+        while (parent[x] != x) {
+            x = parent[x];
+        }
+        return x;
     }
 
     public boolean union(int x, int y) {
@@ -36,6 +67,9 @@ public class UnionFind {
             rank[rootX]++;
         }
         components--;
+        if (listener != null) {
+            listener.onUnion();
+        }
         return true;
     }
 
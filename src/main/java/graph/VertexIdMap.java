@@ -0,0 +1,127 @@
+package graph;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Maps sparse 64-bit vertex ids to dense ints [0, size) and back. Open addressing
+// with linear probing over primitive arrays (load factor <= 1/2), plus a reverse
+// array indexed by dense id, so neither direction boxes a key.
+public class VertexIdMap {
+    private static final int EMPTY = -1;
+
+    private long[] keys;
+    private int[] values;
+    private long[] originalIds;
+    private int size;
+
+    public VertexIdMap() {
+        this(16);
+    }
+
+    public VertexIdMap(int expectedVertices) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedVertices) * 2 - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        Arrays.fill(values, EMPTY);
+        this.originalIds = new long[Math.max(4, expectedVertices)];
+    }
+
+    // Dense id of originalId, assigning the next free one on first sight
+    public int getOrAdd(long originalId) {
+        int mask = keys.length - 1;
+        int slot = hash(originalId) & mask;
+        while (values[slot] != EMPTY) {
+            if (keys[slot] == originalId) return values[slot];
+            slot = (slot + 1) & mask;
+        }
+
+        int denseId = size++;
+        keys[slot] = originalId;
+        values[slot] = denseId;
+        if (denseId == originalIds.length) {
+            originalIds = Arrays.copyOf(originalIds, denseId * 2);
+        }
+        originalIds[denseId] = originalId;
+        if (2 * size > keys.length) {
+            rehash(keys.length * 2);
+        }
+        return denseId;
+    }
+
+    // Dense id of originalId, or -1 if it was never added
+    public int get(long originalId) {
+        int mask = keys.length - 1;
+        int slot = hash(originalId) & mask;
+        while (values[slot] != EMPTY) {
+            if (keys[slot] == originalId) return values[slot];
+            slot = (slot + 1) & mask;
+        }
+        return EMPTY;
+    }
+
+    public long getOriginalId(int denseId) {
+        if (denseId < 0 || denseId >= size) {
+            throw new IllegalArgumentException("Vertex out of range");
+        }
+        return originalIds[denseId];
+    }
+
+    public int size() { return size; }
+
+    // Edge between two known original ids, for calls such as MSTReplacer.removeAndReplace
+    public Edge toDenseEdge(long source, long destination, int weight) {
+        int denseSource = get(source);
+        int denseDestination = get(destination);
+        if (denseSource == EMPTY || denseDestination == EMPTY) {
+            throw new IllegalArgumentException("Unknown vertex id: " + (denseSource == EMPTY ? source : destination));
+        }
+        return new Edge(denseSource, denseDestination, weight);
+    }
+
+    // Endpoints of the edges in original ids, flattened as source0, destination0, source1, ...
+    public long[] toOriginalEndpoints(List<Edge> edges) {
+        long[] endpoints = new long[2 * edges.size()];
+        for (int i = 0; i < edges.size(); i++) {
+            endpoints[2 * i] = getOriginalId(edges.get(i).getSource());
+            endpoints[2 * i + 1] = getOriginalId(edges.get(i).getDestination());
+        }
+        return endpoints;
+    }
+
+    public String format(Edge edge) {
+        return getOriginalId(edge.getSource()) + " -- " + getOriginalId(edge.getDestination()) +
+                " (weight: " + edge.getWeight() + ")";
+    }
+
+    public long getMemoryFootprintBytes() {
+        return (long) keys.length * (Long.BYTES + Integer.BYTES) + (long) originalIds.length * Long.BYTES;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, EMPTY);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] == EMPTY) continue;
+            int slot = hash(oldKeys[i]) & mask;
+            while (values[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    // MurmurHash3 finalizer: sequential or strided device ids still spread over all slots
+    private static int hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+}
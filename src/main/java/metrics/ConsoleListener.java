@@ -0,0 +1,60 @@
+package metrics;
+
+import graph.Edge;
+import util.ComponentFinder;
+import util.ComponentLabels;
+import java.util.List;
+
+// Prints the replacement steps the way the demo always has
+public class ConsoleListener implements MSTListener {
+
+    @Override
+    public void onEdgeNotInTree(Edge edge) {
+        System.out.println("Edge not found in MST: " + format(edge));
+    }
+
+    @Override
+    public void onEdgeRemoved(Edge removed) {
+        System.out.println("=== EDGE REMOVAL ===");
+        System.out.println("Removed: " + format(removed));
+    }
+
+    @Override
+    public void onComponentsFound(ComponentLabels components) {
+        ComponentFinder.displayComponents(components);
+        if (components.getComponentCount() == 1) {
+            System.out.println("No replacement needed");
+        }
+    }
+
+    @Override
+    public void onReplacementSearch(Edge removed, Edge replacement, long edgesScanned, long nanos) {
+        if (replacement != null) {
+            System.out.println("Replacement: " + format(replacement));
+        } else {
+            System.out.println("No replacement found");
+        }
+    }
+
+    @Override
+    public void onReplacementBatch(int removedCount, List<Edge> replacements, long edgesScanned, long nanos) {
+        for (Edge replacement : replacements) {
+            System.out.println("Replacement: " + format(replacement));
+        }
+        if (replacements.size() < removedCount) {
+            System.out.println("Tree remains disconnected: " + (removedCount - replacements.size()) +
+                    " edges without replacement");
+        }
+    }
+
+    @Override
+    public void onEdgeInserted(Edge inserted, Edge evicted) {
+        System.out.println("=== EDGE INSERTION ===");
+        System.out.println("Inserted: " + format(inserted));
+        System.out.println(evicted == null ? "MST unchanged or extended" : "Evicted: " + format(evicted));
+    }
+
+    private static String format(Edge edge) {
+        return edge.getSource() + " -- " + edge.getDestination() + " (weight: " + edge.getWeight() + ")";
+    }
+}
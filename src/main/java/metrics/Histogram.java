@@ -0,0 +1,62 @@
+package metrics;
+
+import java.util.Arrays;
+
+// Histogram of non-negative longs in power-of-two buckets: bucket b holds values in
+// [2^(b-1), 2^b), bucket 0 holds 0. Fixed 520-byte footprint, O(1) record.
+// Not thread-safe; use one per thread.
+public class Histogram {
+    private final long[] buckets = new long[65];
+    private long count;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    public void record(long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Negative value: " + value);
+        }
+        buckets[64 - Long.numberOfLeadingZeros(value)]++;
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public long getCount() { return count; }
+    public long getSum() { return sum; }
+    public long getMin() { return count == 0 ? 0 : min; }
+    public long getMax() { return max; }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    // Upper bound of the bucket holding the given quantile (0 < q <= 1), capped at max
+    public long getPercentile(double q) {
+        if (count == 0) return 0;
+        long rank = (long) Math.ceil(q * count);
+        long seen = 0;
+        for (int b = 0; b < buckets.length; b++) {
+            seen += buckets[b];
+            if (seen >= rank) {
+                return b == 0 ? 0 : Math.min(max, b == 64 ? Long.MAX_VALUE : (1L << b) - 1);
+            }
+        }
+        return max;
+    }
+
+    public void reset() {
+        Arrays.fill(buckets, 0);
+        count = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d mean=%.1f p50<=%d p99<=%d max=%d",
+                count, getMean(), getPercentile(0.5), getPercentile(0.99), max);
+    }
+}
@@ -0,0 +1,38 @@
+package metrics;
+
+import graph.Edge;
+import graph.UnionFind;
+import util.ComponentFinder;
+import util.ComponentLabels;
+import java.util.List;
+
+// Callbacks from the MST hot paths. Every method defaults to a no-op, so an
+// implementation overrides only what it needs; NOOP is the silent default.
+public interface MSTListener extends UnionFind.Observer {
+    MSTListener NOOP = new MSTListener() { };
+
+    default void onEdgeNotInTree(Edge edge) { }
+    default void onEdgeRemoved(Edge removed) { }
+    default void onComponentsFound(ComponentLabels components) { }
+
+    // One replacement search; replacement is null if the removed edge was a bridge
+    default void onReplacementSearch(Edge removed, Edge replacement, long edgesScanned, long nanos) { }
+
+    // One search for several removed edges at once; fewer replacements than removals
+    // means the forest stayed disconnected
+    default void onReplacementBatch(int removedCount, List<Edge> replacements, long edgesScanned, long nanos) { }
+
+    // evicted is null when the inserted edge did not displace a tree edge
+    default void onEdgeInserted(Edge inserted, Edge evicted) { }
+
+    // Union-find internals (path length walked by one find, one successful union)
+    // come from UnionFind.Observer
+
+    // ComponentFinder pass reporting its union-find work and the components found;
+    // lives here so util does not depend on metrics
+    static ComponentLabels labelComponents(int vertices, List<Edge> edges, MSTListener listener) {
+        ComponentLabels labels = ComponentFinder.labelComponents(vertices, edges, listener);
+        listener.onComponentsFound(labels);
+        return labels;
+    }
+}
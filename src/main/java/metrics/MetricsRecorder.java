@@ -0,0 +1,104 @@
+package metrics;
+
+import graph.Edge;
+import util.ComponentLabels;
+import java.util.List;
+
+// In-memory MSTListener: counters plus histograms for the replacement path.
+// Plain fields, so a recorder must stay confined to one thread.
+public class MetricsRecorder implements MSTListener {
+    private long edgesRemoved;
+    private long edgesNotInTree;
+    private long replacementsFound;
+    private long bridges;
+    private long edgesInserted;
+    private long evictions;
+    private long edgesScanned;
+    private long finds;
+    private long unions;
+
+    private final Histogram findPathLengths = new Histogram();
+    private final Histogram componentCounts = new Histogram();
+    private final Histogram edgesScannedPerSearch = new Histogram();
+    private final Histogram replacementSearchNanos = new Histogram();
+
+    @Override
+    public void onEdgeNotInTree(Edge edge) { edgesNotInTree++; }
+
+    @Override
+    public void onEdgeRemoved(Edge removed) { edgesRemoved++; }
+
+    @Override
+    public void onComponentsFound(ComponentLabels components) {
+        componentCounts.record(components.getComponentCount());
+    }
+
+    @Override
+    public void onReplacementSearch(Edge removed, Edge replacement, long scanned, long nanos) {
+        if (replacement != null) replacementsFound++;
+        else bridges++;
+        edgesScanned += scanned;
+        edgesScannedPerSearch.record(scanned);
+        replacementSearchNanos.record(nanos);
+    }
+
+    @Override
+    public void onReplacementBatch(int removedCount, List<Edge> replacements, long scanned, long nanos) {
+        replacementsFound += replacements.size();
+        bridges += removedCount - replacements.size();
+        edgesScanned += scanned;
+        edgesScannedPerSearch.record(scanned);
+        replacementSearchNanos.record(nanos);
+    }
+
+    @Override
+    public void onEdgeInserted(Edge inserted, Edge evicted) {
+        edgesInserted++;
+        if (evicted != null) evictions++;
+    }
+
+    @Override
+    public void onFind(int pathLength) {
+        finds++;
+        findPathLengths.record(pathLength);
+    }
+
+    @Override
+    public void onUnion() { unions++; }
+
+    public long getEdgesRemoved() { return edgesRemoved; }
+    public long getEdgesNotInTree() { return edgesNotInTree; }
+    public long getReplacementsFound() { return replacementsFound; }
+    public long getBridges() { return bridges; }
+    public long getEdgesInserted() { return edgesInserted; }
+    public long getEvictions() { return evictions; }
+    public long getEdgesScanned() { return edgesScanned; }
+    public long getFinds() { return finds; }
+    public long getUnions() { return unions; }
+
+    public Histogram getFindPathLengths() { return findPathLengths; }
+    public Histogram getComponentCounts() { return componentCounts; }
+    public Histogram getEdgesScannedPerSearch() { return edgesScannedPerSearch; }
+    public Histogram getReplacementSearchNanos() { return replacementSearchNanos; }
+
+    public void reset() {
+        edgesRemoved = edgesNotInTree = replacementsFound = bridges = 0;
+        edgesInserted = evictions = edgesScanned = finds = unions = 0;
+        findPathLengths.reset();
+        componentCounts.reset();
+        edgesScannedPerSearch.reset();
+        replacementSearchNanos.reset();
+    }
+
+    public void displayMetrics() {
+        System.out.println("=== MST METRICS ===");
+        System.out.println("Removed: " + edgesRemoved + " (not in tree: " + edgesNotInTree + ")");
+        System.out.println("Replacements: " + replacementsFound + ", bridges: " + bridges);
+        System.out.println("Inserted: " + edgesInserted + ", evictions: " + evictions);
+        System.out.println("Finds: " + finds + ", unions: " + unions);
+        System.out.println("Find path length: " + findPathLengths);
+        System.out.println("Components found: " + componentCounts);
+        System.out.println("Edges scanned per search: " + edgesScannedPerSearch);
+        System.out.println("Replacement search ns: " + replacementSearchNanos);
+    }
+}
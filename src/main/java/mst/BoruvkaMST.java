@@ -0,0 +1,116 @@
+package mst;
+
+import graph.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+// Borůvka: every round each component picks its cheapest outgoing edge in parallel,
+// the picked edges are contracted through a ConcurrentUnionFind, and edges inside
+// a component are dropped.
+// Edges compare as packed (weight, edgeId) keys, so ties cannot create cycles and the
+// result matches KruskalMST on the same CompactGraph. At most log2(V) rounds.
+public class BoruvkaMST implements MSTAlgorithm {
+    private static final long NONE = Long.MAX_VALUE;
+
+    private final CompactGraph graph;
+    private final ForkJoinPool pool;
+    private final List<Edge> mstEdges;
+    private long totalWeight;
+    private int rounds;
+
+    public BoruvkaMST(Graph graph) {
+        this(CompactGraph.fromGraph(graph), ForkJoinPool.commonPool());
+    }
+
+    public BoruvkaMST(CompactGraph graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    public BoruvkaMST(CompactGraph graph, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+        this.mstEdges = new ArrayList<>();
+        pool.submit(this::build).join();
+    }
+
+    private void build() {
+        int vertices = graph.getVertices();
+        int[] component = new int[vertices];
+        Arrays.setAll(component, i -> i);
+        AtomicLongArray cheapest = new AtomicLongArray(vertices);
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(vertices);
+
+        int[] active = IntStream.range(0, graph.getEdgeCount()).parallel()
+                .filter(id -> graph.getSource(id) != graph.getDestination(id))
+                .toArray();
+
+        while (active.length > 0) {
+            rounds++;
+            IntStream.range(0, vertices).parallel().forEach(v -> cheapest.set(v, NONE));
+
+            int[] edges = active;
+            IntStream.range(0, edges.length).parallel().forEach(i -> {
+                int edgeId = edges[i];
+                long key = ((long) graph.getWeight(edgeId) << 32) | edgeId;
+                lowerTo(cheapest, component[graph.getSource(edgeId)], key);
+                lowerTo(cheapest, component[graph.getDestination(edgeId)], key);
+            });
+
+            // Contract all picked edges in parallel; an edge picked by both of its
+            // components is only reported by the union that actually links them
+            int[] linked = IntStream.range(0, vertices).parallel()
+                    .filter(c -> {
+                        long key = cheapest.get(c);
+                        int edgeId = (int) key;
+                        return key != NONE && uf.union(graph.getSource(edgeId), graph.getDestination(edgeId));
+                    })
+                    .toArray();
+            if (linked.length == 0) break;
+            for (int c : linked) {
+                int edgeId = (int) cheapest.get(c);
+                mstEdges.add(graph.getEdge(edgeId));
+                totalWeight += graph.getWeight(edgeId);
+            }
+
+            IntStream.range(0, vertices).parallel().forEach(v -> component[v] = uf.find(v));
+            active = Arrays.stream(edges).parallel()
+                    .filter(id -> component[graph.getSource(id)] != component[graph.getDestination(id)])
+                    .toArray();
+        }
+    }
+
+    private static void lowerTo(AtomicLongArray cheapest, int index, long key) {
+        long current = cheapest.get(index);
+        while (key < current && !cheapest.compareAndSet(index, current, key)) {
+            current = cheapest.get(index);
+        }
+    }
+
+    @Override
+    public List<Edge> getMSTEdges() { return new ArrayList<>(mstEdges); }
+
+    @Override
+    public long getTotalWeight() { return totalWeight; }
+
+    public int getRounds() { return rounds; }
+
+    @Override
+    public void displayMST() {
+        System.out.println("=== MINIMUM SPANNING TREE (Boruvka) ===");
+        for (int i = 0; i < mstEdges.size(); i++) {
+            Edge edge = mstEdges.get(i);
+            System.out.println((i + 1) + ". " + edge.getSource() + " -- " +
+                    edge.getDestination() + " (weight: " + edge.getWeight() + ")");
+        }
+        System.out.println("Total Weight: " + totalWeight);
+        System.out.println("Rounds: " + rounds);
+        System.out.println("Edges: " + mstEdges.size());
+    }
+
+    @Override
+    public boolean isValid(int vertices) {
+        return mstEdges.size() == vertices - 1;
+    }
+}
@@ -0,0 +1,41 @@
+package mst;
+
+import graph.*;
+import util.EdgeSorter;
+
+// Kruskal over a DoubleWeightGraph; doubles are radix-sorted through their
+// order-preserving bit patterns, so no comparator or boxing is involved.
+public class DoubleKruskalMST {
+    private final DoubleWeightGraph graph;
+    private final int[] mstEdgeIds;
+    private final double totalWeight;
+
+    public DoubleKruskalMST(DoubleWeightGraph graph) {
+        this.graph = graph;
+        this.mstEdgeIds = LongKruskalMST.selectTreeEdges(graph.getVertices(), graph.getEdgeCount(),
+                EdgeSorter.sortedOrder(graph.getWeights()), graph::getSource, graph::getDestination);
+        double weight = 0;
+        for (int edgeId : mstEdgeIds) {
+            weight += graph.getWeight(edgeId);
+        }
+        this.totalWeight = weight;
+    }
+
+    public int[] getMSTEdgeIds() { return mstEdgeIds.clone(); }
+    public double getTotalWeight() { return totalWeight; }
+
+    public boolean isValid(int vertices) {
+        return mstEdgeIds.length == vertices - 1;
+    }
+
+    public void displayMST() {
+        System.out.println("=== MINIMUM SPANNING TREE ===");
+        for (int i = 0; i < mstEdgeIds.length; i++) {
+            int edgeId = mstEdgeIds[i];
+            System.out.println((i + 1) + ". " + graph.getSource(edgeId) + " -- " +
+                    graph.getDestination(edgeId) + " (weight: " + graph.getWeight(edgeId) + ")");
+        }
+        System.out.println("Total Weight: " + totalWeight);
+        System.out.println("Edges: " + mstEdgeIds.length);
+    }
+}
@@ -0,0 +1,264 @@
+package mst;
+
+import graph.*;
+import util.EdgeSorter;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+// Out-of-core Kruskal for edge files larger than the heap. The input is a file of
+// little-endian (source, destination, weight) int records. Phase 1 sorts chunks of
+// chunkEdges records in memory and writes each as a sorted run to workDir; phase 2
+// k-way merges the runs by (weight, run) and streams the merged order into a
+// UnionFind, so the heap holds one chunk at a time and then only O(V + k).
+public class ExternalKruskalMST implements MSTAlgorithm {
+    static final int RECORD_BYTES = 12;
+    private static final int BUFFER_BYTES = RECORD_BYTES << 12;
+
+    private final List<Edge> mstEdges;
+    private final long totalWeight;
+
+    private int runCount;
+    private long edgesRead;
+    private long edgesMerged;
+    private long bytesRead;
+    private long bytesWritten;
+    private long runFormationNanos;
+    private long mergeNanos;
+
+    public ExternalKruskalMST(Path edgeFile, int vertices, Path workDir, int chunkEdges) throws IOException {
+        if (chunkEdges <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.mstEdges = new ArrayList<>();
+        List<Path> runs = new ArrayList<>();
+        try {
+            long start = System.nanoTime();
+            formRuns(edgeFile, vertices, workDir, chunkEdges, runs);
+            runFormationNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            this.totalWeight = mergeRuns(runs, vertices);
+            mergeNanos = System.nanoTime() - start;
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    private void formRuns(Path edgeFile, int vertices, Path workDir, int chunkEdges, List<Path> runs)
+            throws IOException {
+        int[] sources = new int[chunkEdges];
+        int[] destinations = new int[chunkEdges];
+        int[] weights = new int[chunkEdges];
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+        try (FileChannel in = FileChannel.open(edgeFile, StandardOpenOption.READ)) {
+            int count = 0;
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                bytesRead += read;
+                buffer.flip();
+                while (buffer.remaining() >= RECORD_BYTES) {
+                    sources[count] = buffer.getInt();
+                    destinations[count] = buffer.getInt();
+                    weights[count] = buffer.getInt();
+                    // Checked here rather than failing later inside the UnionFind
+                    if (sources[count] < 0 || sources[count] >= vertices ||
+                            destinations[count] < 0 || destinations[count] >= vertices) {
+                        throw new IOException("Vertex out of range in edge record " + (edgesRead + count) +
+                                " of " + edgeFile + ": " + sources[count] + " -- " + destinations[count]);
+                    }
+                    if (++count == chunkEdges) {
+                        runs.add(writeRun(workDir, sources, destinations, weights, count));
+                        count = 0;
+                    }
+                }
+                buffer.compact();
+            }
+            if (buffer.position() != 0) {
+                throw new EOFException("Truncated edge record in " + edgeFile);
+            }
+            if (count > 0) {
+                runs.add(writeRun(workDir, sources, destinations, weights, count));
+            }
+        }
+    }
+
+    private Path writeRun(Path workDir, int[] sources, int[] destinations, int[] weights, int count)
+            throws IOException {
+        int[] order = EdgeSorter.sortedOrder(count == weights.length ? weights : Arrays.copyOf(weights, count),
+                EdgeSorter.Mode.AUTO);
+        Path run = Files.createTempFile(workDir, "run-" + runCount + "-", ".edges");
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel out = FileChannel.open(run, StandardOpenOption.WRITE)) {
+            for (int index : order) {
+                if (buffer.remaining() < RECORD_BYTES) {
+                    bytesWritten += flush(out, buffer);
+                }
+                buffer.putInt(sources[index]).putInt(destinations[index]).putInt(weights[index]);
+            }
+            bytesWritten += flush(out, buffer);
+        } catch (IOException | RuntimeException e) {
+            // Not in runs yet, so the constructor's cleanup would miss it
+            try {
+                Files.deleteIfExists(run);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        edgesRead += count;
+        runCount++;
+        return run;
+    }
+
+    private static long flush(FileChannel out, ByteBuffer buffer) throws IOException {
+        long written = 0;
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            written += out.write(buffer);
+        }
+        buffer.clear();
+        return written;
+    }
+
+    private long mergeRuns(List<Path> runs, int vertices) throws IOException {
+        // Equal weights come out in run order, and runs are in input order, so ties
+        // are broken by input position exactly like the in-memory Kruskal
+        PriorityQueue<RunReader> heads = new PriorityQueue<>((a, b) -> a.weight != b.weight ?
+                Integer.compare(a.weight, b.weight) : Integer.compare(a.index, b.index));
+        List<RunReader> readers = new ArrayList<>();
+        try {
+            for (int i = 0; i < runs.size(); i++) {
+                RunReader reader = new RunReader(runs.get(i), i);
+                readers.add(reader);
+                if (reader.advance()) {
+                    heads.add(reader);
+                }
+            }
+
+            UnionFind uf = new UnionFind(vertices);
+            long weight = 0;
+            while (!heads.isEmpty() && mstEdges.size() < vertices - 1) {
+                RunReader reader = heads.poll();
+                edgesMerged++;
+                if (uf.union(reader.source, reader.destination)) {
+                    mstEdges.add(new Edge(reader.source, reader.destination, reader.weight));
+                    weight += reader.weight;
+                }
+                if (reader.advance()) {
+                    heads.add(reader);
+                }
+            }
+            return weight;
+        } finally {
+            for (RunReader reader : readers) {
+                bytesRead += reader.bytesRead;
+                reader.channel.close();
+            }
+        }
+    }
+
+    private static class RunReader {
+        final FileChannel channel;
+        final int index;
+        final ByteBuffer buffer;
+        long bytesRead;
+        int source;
+        int destination;
+        int weight;
+
+        RunReader(Path run, int index) throws IOException {
+            this.channel = FileChannel.open(run, StandardOpenOption.READ);
+            this.index = index;
+            this.buffer = ByteBuffer.allocate(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.flip();
+        }
+
+        boolean advance() throws IOException {
+            if (buffer.remaining() < RECORD_BYTES) {
+                buffer.compact();
+                int read;
+                while (buffer.position() < RECORD_BYTES && (read = channel.read(buffer)) >= 0) {
+                    bytesRead += read;
+                }
+                buffer.flip();
+                if (buffer.remaining() < RECORD_BYTES) return false;
+            }
+            source = buffer.getInt();
+            destination = buffer.getInt();
+            weight = buffer.getInt();
+            return true;
+        }
+    }
+
+    // Writes edges in the record layout read by this class and by StreamingMST
+    public static void writeEdgeRecords(Path path, Iterator<Edge> edges) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel out = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (edges.hasNext()) {
+                Edge edge = edges.next();
+                if (buffer.remaining() < RECORD_BYTES) {
+                    flush(out, buffer);
+                }
+                buffer.putInt(edge.getSource()).putInt(edge.getDestination()).putInt(edge.getWeight());
+            }
+            flush(out, buffer);
+        }
+    }
+
+    @Override
+    public List<Edge> getMSTEdges() { return new ArrayList<>(mstEdges); }
+
+    @Override
+    public long getTotalWeight() { return totalWeight; }
+
+    public int getRunCount() { return runCount; }
+    public long getEdgesRead() { return edgesRead; }
+    public long getEdgesMerged() { return edgesMerged; }
+    public long getBytesRead() { return bytesRead; }
+    public long getBytesWritten() { return bytesWritten; }
+    public long getRunFormationNanos() { return runFormationNanos; }
+    public long getMergeNanos() { return mergeNanos; }
+
+    // Bytes read plus written per second over both phases, in MB/s
+    public double getThroughputMBps() {
+        long nanos = runFormationNanos + mergeNanos;
+        return nanos == 0 ? 0 : (bytesRead + bytesWritten) / 1e6 / (nanos / 1e9);
+    }
+
+    public void displayIOStats() {
+        System.out.println("=== EXTERNAL SORT I/O ===");
+        System.out.println("Edges read: " + edgesRead + " in " + runCount + " runs");
+        System.out.println("Edges merged before the tree was complete: " + edgesMerged);
+        System.out.printf("Run formation: %.1f ms, merge: %.1f ms%n", runFormationNanos / 1e6, mergeNanos / 1e6);
+        System.out.printf("Read: %.1f MB, written: %.1f MB, throughput: %.1f MB/s%n",
+                bytesRead / 1e6, bytesWritten / 1e6, getThroughputMBps());
+    }
+
+    @Override
+    public void displayMST() {
+        System.out.println("=== MINIMUM SPANNING TREE ===");
+        for (int i = 0; i < mstEdges.size(); i++) {
+            Edge edge = mstEdges.get(i);
+            System.out.println((i + 1) + ". " + edge.getSource() + " -- " +
+                    edge.getDestination() + " (weight: " + edge.getWeight() + ")");
+        }
+        System.out.println("Total Weight: " + totalWeight);
+        System.out.println("Edges: " + mstEdges.size());
+    }
+
+    @Override
+    public boolean isValid(int vertices) {
+        return mstEdges.size() == vertices - 1;
+    }
+}
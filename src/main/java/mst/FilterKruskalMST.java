@@ -0,0 +1,120 @@
+package mst;
+
+import graph.*;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongPredicate;
+
+// Filter-Kruskal: partition edges around a pivot weight, solve the light half,
+// then drop heavy edges whose endpoints are already connected before recursing.
+// Partitioning and filtering run as parallel streams inside the given pool;
+// unions stay sequential. Edges are packed (weight, edgeId) keys, so ties break by
+// id and the result matches KruskalMST on the same CompactGraph.
+public class FilterKruskalMST implements MSTAlgorithm {
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 14;
+    private static final int PIVOT_SAMPLE_SIZE = 101;
+
+    private final CompactGraph graph;
+    private final ForkJoinPool pool;
+    private final UnionFind uf;
+    private final List<Edge> mstEdges;
+    private final int targetEdges;
+    private final int baseCaseSize;
+    private long totalWeight;
+
+    public FilterKruskalMST(Graph graph) {
+        this(CompactGraph.fromGraph(graph), ForkJoinPool.commonPool());
+    }
+
+    public FilterKruskalMST(CompactGraph graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    public FilterKruskalMST(CompactGraph graph, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+        this.uf = new UnionFind(graph.getVertices());
+        this.mstEdges = new ArrayList<>();
+        this.targetEdges = graph.getVertices() - 1;
+        this.baseCaseSize = Math.max(SEQUENTIAL_THRESHOLD, graph.getVertices());
+
+        long[] keys = new long[graph.getEdgeCount()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = ((long) graph.getWeight(i) << 32) | i;
+        }
+        filterKruskal(keys);
+    }
+
+    private void filterKruskal(long[] keys) {
+        if (keys.length <= baseCaseSize) {
+            kruskal(keys);
+            return;
+        }
+
+        long pivot = choosePivot(keys);
+        long[] light = filter(keys, key -> key <= pivot);
+        if (light.length == keys.length) {
+            kruskal(keys);
+            return;
+        }
+        long[] heavy = filter(keys, key -> key > pivot);
+
+        filterKruskal(light);
+        if (mstEdges.size() >= targetEdges) return;
+
+        // No unions run while filtering, so read-only root lookups are safe in parallel
+        filterKruskal(filter(heavy, key -> {
+            int edgeId = (int) key;
+            return uf.findRoot(graph.getSource(edgeId)) != uf.findRoot(graph.getDestination(edgeId));
+        }));
+    }
+
+    private void kruskal(long[] keys) {
+        Arrays.sort(keys);
+        for (long key : keys) {
+            if (mstEdges.size() >= targetEdges) break;
+            int edgeId = (int) key;
+            if (uf.union(graph.getSource(edgeId), graph.getDestination(edgeId))) {
+                mstEdges.add(graph.getEdge(edgeId));
+                totalWeight += graph.getWeight(edgeId);
+            }
+        }
+    }
+
+    private long[] filter(long[] keys, LongPredicate predicate) {
+        return pool.submit(() -> Arrays.stream(keys).parallel().filter(predicate).toArray()).join();
+    }
+
+    private long choosePivot(long[] keys) {
+        long[] sample = new long[PIVOT_SAMPLE_SIZE];
+        SplittableRandom random = new SplittableRandom(keys.length);
+        for (int i = 0; i < sample.length; i++) {
+            sample[i] = keys[random.nextInt(keys.length)];
+        }
+        Arrays.sort(sample);
+        return sample[sample.length / 2];
+    }
+
+    @Override
+    public List<Edge> getMSTEdges() { return new ArrayList<>(mstEdges); }
+
+    @Override
+    public long getTotalWeight() { return totalWeight; }
+
+    @Override
+    public void displayMST() {
+        System.out.println("=== MINIMUM SPANNING TREE (Filter-Kruskal) ===");
+        for (int i = 0; i < mstEdges.size(); i++) {
+            Edge edge = mstEdges.get(i);
+            System.out.println((i + 1) + ". " + edge.getSource() + " -- " +
+                    edge.getDestination() + " (weight: " + edge.getWeight() + ")");
+        }
+        System.out.println("Total Weight: " + totalWeight);
+        System.out.println("Edges: " + mstEdges.size());
+    }
+
+    @Override
+    public boolean isValid(int vertices) {
+        return mstEdges.size() == vertices - 1;
+    }
+}
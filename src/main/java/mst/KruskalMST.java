@@ -1,11 +1,12 @@
 package mst;
 
 import graph.*;
+import util.EdgeSorter;
 import java.util.*;
 
-public class KruskalMST {
+public class KruskalMST implements MSTAlgorithm {
     private final List<Edge> mstEdges;
-    private final int totalWeight;
+    private final long totalWeight;
 
     public KruskalMST(Graph graph) {
         this.mstEdges = new ArrayList<>();
@@ -26,9 +27,69 @@ public class KruskalMST {
         this.totalWeight = Graph.calculateTotalWeight(mstEdges);
     }
 
+    // Sorts edge ids by (weight, id) with a primitive sort instead of Collections.sort
+    public KruskalMST(Graph graph, EdgeSorter.Mode sortMode) {
+        this.mstEdges = new ArrayList<>();
+        List<Edge> edges = graph.getEdges();
+        int[] weights = new int[edges.size()];
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = edges.get(i).getWeight();
+        }
+        int[] order = EdgeSorter.sortedOrder(weights, sortMode);
+
+        UnionFind uf = new UnionFind(graph.getVertices());
+        int edgesAdded = 0;
+        int targetEdges = graph.getVertices() - 1;
+        long weight = 0;
+
+        for (int edgeIndex : order) {
+            if (edgesAdded >= targetEdges) break;
+            Edge edge = edges.get(edgeIndex);
+            if (uf.union(edge.getSource(), edge.getDestination())) {
+                mstEdges.add(edge);
+                weight += edge.getWeight();
+                edgesAdded++;
+            }
+        }
+        this.totalWeight = weight;
+    }
+
+    public KruskalMST(CompactGraph graph) {
+        this(graph, EdgeSorter.Mode.AUTO);
+    }
+
+    public KruskalMST(CompactGraph graph, EdgeSorter.Mode sortMode) {
+        this.mstEdges = new ArrayList<>();
+        int edgeCount = graph.getEdgeCount();
+        int[] weights = new int[edgeCount];
+        for (int i = 0; i < edgeCount; i++) {
+            weights[i] = graph.getWeight(i);
+        }
+        int[] order = EdgeSorter.sortedOrder(weights, sortMode);
+
+        UnionFind uf = new UnionFind(graph.getVertices());
+        int edgesAdded = 0;
+        int targetEdges = graph.getVertices() - 1;
+        long weight = 0;
+
+        for (int edgeId : order) {
+            if (edgesAdded >= targetEdges) break;
+            if (uf.union(graph.getSource(edgeId), graph.getDestination(edgeId))) {
+                mstEdges.add(graph.getEdge(edgeId));
+                weight += graph.getWeight(edgeId);
+                edgesAdded++;
+            }
+        }
+        this.totalWeight = weight;
+    }
+
+    @Override
     public List<Edge> getMSTEdges() { return new ArrayList<>(mstEdges); }
-    public int getTotalWeight() { return totalWeight; }
 
+    @Override
+    public long getTotalWeight() { return totalWeight; }
+
+    @Override
     public void displayMST() {
         System.out.println("=== MINIMUM SPANNING TREE ===");
         for (int i = 0; i < mstEdges.size(); i++) {
@@ -40,6 +101,7 @@ public class KruskalMST {
         System.out.println("Edges: " + mstEdges.size());
     }
 
+    @Override
     public boolean isValid(int vertices) {
         return mstEdges.size() == vertices - 1;
     }
@@ -0,0 +1,391 @@
+package mst;
+
+import graph.*;
+import java.util.*;
+
+// Minimum spanning forest under edge insertions, deletions and weight changes.
+// Tree edges live in a link-cut tree as extra nodes carrying their weight, so an
+// insertion or a reweight finds and evicts the heaviest edge on the cycle in
+// O(log V) amortized. Deleting a tree edge searches only the smaller half: two BFS
+// walks over tree adjacency run in lockstep from the cut endpoints, and the first to
+// finish names the smaller side, whose incident non-tree edges are scanned for the
+// lightest one crossing the cut. That is O(s + non-tree degree of the side) for a side
+// of s vertices - cheap for the unbalanced cuts typical of sparse forests, but O(V + E)
+// for a balanced cut. This is not the amortized polylog bound of the level-based
+// Holm-de Lichtenberg-Thorup structure.
+//
+// Edges are numbered by slot. Slot lookup by Edge is an open-addressing table of slot
+// ids, and each vertex keeps its tree and non-tree incidences as intrusive linked
+// lists of half-edges (2 * slot + end), so updates do not box anything.
+public class LinkCutDynamicMST {
+    private static final int NONE = -1;
+
+    private final int vertices;
+    private final LinkCutTree tree;
+    private final int[] slotOfTreeNode;
+    private final int[] freeTreeNodes;
+    private int freeTreeNodeCount;
+
+    private Edge[] edgeOfSlot;
+    private int[] treeNodeOfSlot;  // NONE for a non-tree edge
+    private int[] freeSlots;
+    private int freeSlotCount;
+    private int slotCount;         // slots ever used; edgeOfSlot[slot] is null once freed
+    private int[] slotTable;       // open addressing over edge hash codes, NONE when empty
+    private int edgeCount;
+
+    // Half-edge lists: half 2 * slot sits at the source, 2 * slot + 1 at the destination
+    private final int[] treeHead;
+    private final int[] nonTreeHead;
+    private int[] nextHalf;
+    private int[] prevHalf;
+
+    // Scratch for reconnect: BFS queues and per-vertex visit stamps
+    private final int[] queueA;
+    private final int[] queueB;
+    private final int[] visitStamp;
+    private final boolean[] visitSideA;
+    private int stamp;
+    private int treeEdgeCount;
+    private long totalWeight;
+
+    public LinkCutDynamicMST(int vertices) {
+        this.vertices = vertices;
+        this.tree = new LinkCutTree(2 * vertices);
+        this.slotOfTreeNode = new int[vertices];
+        this.freeTreeNodes = new int[Math.max(0, vertices - 1)];
+        for (int node = 2 * vertices - 2; node >= vertices; node--) {
+            freeTreeNodes[freeTreeNodeCount++] = node;
+        }
+        this.edgeOfSlot = new Edge[16];
+        this.treeNodeOfSlot = new int[16];
+        this.freeSlots = new int[16];
+        this.slotTable = new int[32];
+        Arrays.fill(slotTable, NONE);
+        this.treeHead = new int[vertices];
+        this.nonTreeHead = new int[vertices];
+        Arrays.fill(treeHead, NONE);
+        Arrays.fill(nonTreeHead, NONE);
+        this.nextHalf = new int[32];
+        this.prevHalf = new int[32];
+        this.queueA = new int[vertices];
+        this.queueB = new int[vertices];
+        this.visitStamp = new int[vertices];
+        this.visitSideA = new boolean[vertices];
+    }
+
+    public LinkCutDynamicMST(Graph graph) {
+        this(graph.getVertices());
+        for (Edge edge : graph.getEdges()) {
+            insertEdge(edge);
+        }
+    }
+
+    public Edge insertEdge(int source, int destination, int weight) {
+        return insertEdge(new Edge(source, destination, weight));
+    }
+
+    public Edge insertEdge(Edge edge) {
+        checkVertex(edge.getSource());
+        checkVertex(edge.getDestination());
+        if (findSlot(edge) != NONE) {
+            throw new IllegalArgumentException("Edge already present: " + edge);
+        }
+
+        int slot = freeSlotCount > 0 ? freeSlots[--freeSlotCount] : newSlot();
+        edgeOfSlot[slot] = edge;
+        treeNodeOfSlot[slot] = NONE;
+        addToTable(slot);
+
+        connect(slot);
+        return edge;
+    }
+
+    public boolean deleteEdge(Edge edge) {
+        int slot = findSlot(edge);
+        if (slot == NONE) return false;
+
+        if (treeNodeOfSlot[slot] == NONE) {
+            removeNonTree(slot);
+        } else {
+            unlink(slot);
+            reconnect(edge.getSource(), edge.getDestination());
+        }
+        removeFromTable(slot);
+        edgeOfSlot[slot] = null;
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlotCount * 2);
+        }
+        freeSlots[freeSlotCount++] = slot;
+        return true;
+    }
+
+    public Edge updateWeight(Edge edge, int newWeight) {
+        int slot = findSlot(edge);
+        if (slot == NONE) {
+            throw new IllegalArgumentException("Edge not found: " + edge);
+        }
+        Edge updated = new Edge(edge.getSource(), edge.getDestination(), newWeight);
+        if (updated.equals(edge)) return edge;
+        if (findSlot(updated) != NONE) {
+            throw new IllegalArgumentException("Edge already present: " + updated);
+        }
+
+        int treeNode = treeNodeOfSlot[slot];
+        boolean stillOptimal = treeNode != NONE ? newWeight < edge.getWeight() : newWeight > edge.getWeight();
+        if (!stillOptimal) {
+            deleteEdge(edge);
+            return insertEdge(updated);
+        }
+
+        // A cheaper tree edge or a more expensive non-tree edge keeps the forest minimal
+        removeFromTable(slot);
+        edgeOfSlot[slot] = updated;
+        addToTable(slot);
+        if (treeNode != NONE) {
+            tree.setValue(treeNode, newWeight);
+            totalWeight += newWeight - edge.getWeight();
+        }
+        return updated;
+    }
+
+    private void connect(int slot) {
+        Edge edge = edgeOfSlot[slot];
+        int u = edge.getSource();
+        int v = edge.getDestination();
+
+        if (u == v) {
+            addNonTree(slot);
+            return;
+        }
+        if (!tree.connected(u, v)) {
+            link(slot);
+            return;
+        }
+
+        int heaviest = tree.pathMax(u, v);
+        if (tree.getValue(heaviest) > edge.getWeight()) {
+            int evicted = slotOfTreeNode[heaviest - vertices];
+            unlink(evicted);
+            addNonTree(evicted);
+            link(slot);
+        } else {
+            addNonTree(slot);
+        }
+    }
+
+    // a and b were just separated; relinks the lightest non-tree edge across the cut
+    private void reconnect(int a, int b) {
+        stamp++;
+        visitStamp[a] = stamp;
+        visitSideA[a] = true;
+        visitStamp[b] = stamp;
+        visitSideA[b] = false;
+        queueA[0] = a;
+        queueB[0] = b;
+        int headA = 0, tailA = 1, headB = 0, tailB = 1;
+        // Lockstep walk: the side whose queue drains first is complete and no larger
+        while (headA < tailA && headB < tailB) {
+            tailA = expand(queueA[headA++], queueA, tailA, true);
+            tailB = expand(queueB[headB++], queueB, tailB, false);
+        }
+        boolean sideA = headA == tailA;
+        int[] side = sideA ? queueA : queueB;
+        int size = sideA ? tailA : tailB;
+
+        int best = NONE;
+        long bestKey = Long.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            for (int half = nonTreeHead[side[i]]; half != NONE; half = nextHalf[half]) {
+                int y = endpoint(half ^ 1);
+                if (visitStamp[y] == stamp && visitSideA[y] == sideA) continue; // inside the side
+                long key = key(half >> 1);
+                if (key < bestKey) {
+                    bestKey = key;
+                    best = half >> 1;
+                }
+            }
+        }
+        if (best != NONE) {
+            removeNonTree(best);
+            link(best);
+        }
+    }
+
+    private int expand(int vertex, int[] queue, int tail, boolean sideA) {
+        for (int half = treeHead[vertex]; half != NONE; half = nextHalf[half]) {
+            int next = endpoint(half ^ 1);
+            if (visitStamp[next] != stamp) {
+                visitStamp[next] = stamp;
+                visitSideA[next] = sideA;
+                queue[tail++] = next;
+            }
+        }
+        return tail;
+    }
+
+    private int endpoint(int half) {
+        Edge edge = edgeOfSlot[half >> 1];
+        return (half & 1) == 0 ? edge.getSource() : edge.getDestination();
+    }
+
+    private void addNonTree(int slot) {
+        pushHalf(nonTreeHead, 2 * slot);
+        pushHalf(nonTreeHead, 2 * slot + 1);
+    }
+
+    private void removeNonTree(int slot) {
+        unlinkHalf(nonTreeHead, 2 * slot);
+        unlinkHalf(nonTreeHead, 2 * slot + 1);
+    }
+
+    private void pushHalf(int[] head, int half) {
+        int vertex = endpoint(half);
+        nextHalf[half] = head[vertex];
+        prevHalf[half] = NONE;
+        if (head[vertex] != NONE) {
+            prevHalf[head[vertex]] = half;
+        }
+        head[vertex] = half;
+    }
+
+    private void unlinkHalf(int[] head, int half) {
+        if (prevHalf[half] == NONE) {
+            head[endpoint(half)] = nextHalf[half];
+        } else {
+            nextHalf[prevHalf[half]] = nextHalf[half];
+        }
+        if (nextHalf[half] != NONE) {
+            prevHalf[nextHalf[half]] = prevHalf[half];
+        }
+    }
+
+    private void link(int slot) {
+        Edge edge = edgeOfSlot[slot];
+        int node = freeTreeNodes[--freeTreeNodeCount];
+        slotOfTreeNode[node - vertices] = slot;
+        treeNodeOfSlot[slot] = node;
+
+        tree.setValue(node, edge.getWeight());
+        tree.link(node, edge.getSource());
+        tree.link(edge.getDestination(), node);
+        pushHalf(treeHead, 2 * slot);
+        pushHalf(treeHead, 2 * slot + 1);
+        totalWeight += edge.getWeight();
+        treeEdgeCount++;
+    }
+
+    private void unlink(int slot) {
+        Edge edge = edgeOfSlot[slot];
+        int node = treeNodeOfSlot[slot];
+        tree.cut(edge.getSource(), node);
+        tree.cut(node, edge.getDestination());
+        tree.reset(node);
+        freeTreeNodes[freeTreeNodeCount++] = node;
+        unlinkHalf(treeHead, 2 * slot);
+        unlinkHalf(treeHead, 2 * slot + 1);
+        treeNodeOfSlot[slot] = NONE;
+        totalWeight -= edge.getWeight();
+        treeEdgeCount--;
+    }
+
+    private long key(int slot) {
+        return ((long) edgeOfSlot[slot].getWeight() << 32) | slot;
+    }
+
+    private int newSlot() {
+        if (slotCount == edgeOfSlot.length) {
+            int capacity = slotCount * 2;
+            edgeOfSlot = Arrays.copyOf(edgeOfSlot, capacity);
+            treeNodeOfSlot = Arrays.copyOf(treeNodeOfSlot, capacity);
+            nextHalf = Arrays.copyOf(nextHalf, 2 * capacity);
+            prevHalf = Arrays.copyOf(prevHalf, 2 * capacity);
+        }
+        return slotCount++;
+    }
+
+    // Linear probing keyed by Edge.equals, so (u, v, w) and (v, u, w) share a slot
+    private int findSlot(Edge edge) {
+        int mask = slotTable.length - 1;
+        for (int i = home(edge, mask); slotTable[i] != NONE; i = (i + 1) & mask) {
+            if (edgeOfSlot[slotTable[i]].equals(edge)) return slotTable[i];
+        }
+        return NONE;
+    }
+
+    private void addToTable(int slot) {
+        if (2 * (edgeCount + 1) > slotTable.length) {
+            int[] old = slotTable;
+            slotTable = new int[old.length * 2];
+            Arrays.fill(slotTable, NONE);
+            for (int entry : old) {
+                if (entry != NONE) place(entry);
+            }
+        }
+        place(slot);
+        edgeCount++;
+    }
+
+    private void place(int slot) {
+        int mask = slotTable.length - 1;
+        int i = home(edgeOfSlot[slot], mask);
+        while (slotTable[i] != NONE) {
+            i = (i + 1) & mask;
+        }
+        slotTable[i] = slot;
+    }
+
+    // Backward-shift deletion keeps every probe chain unbroken without tombstones
+    private void removeFromTable(int slot) {
+        int mask = slotTable.length - 1;
+        int hole = home(edgeOfSlot[slot], mask);
+        while (slotTable[hole] != slot) {
+            hole = (hole + 1) & mask;
+        }
+        for (int i = (hole + 1) & mask; slotTable[i] != NONE; i = (i + 1) & mask) {
+            int wanted = home(edgeOfSlot[slotTable[i]], mask);
+            // Move the entry back unless its home lies cyclically in (hole, i]
+            if (((i - wanted) & mask) >= ((i - hole) & mask)) {
+                slotTable[hole] = slotTable[i];
+                hole = i;
+            }
+        }
+        slotTable[hole] = NONE;
+        edgeCount--;
+    }
+
+    private static int home(Edge edge, int mask) {
+        int h = edge.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void checkVertex(int vertex) {
+        if (vertex < 0 || vertex >= vertices) {
+            throw new IllegalArgumentException("Vertex out of range");
+        }
+    }
+
+    public boolean connected(int u, int v) {
+        checkVertex(u);
+        checkVertex(v);
+        return tree.connected(u, v);
+    }
+
+    public List<Edge> getCurrentMSTEdges() {
+        List<Edge> edges = new ArrayList<>(treeEdgeCount);
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (edgeOfSlot[slot] != null && treeNodeOfSlot[slot] != NONE) {
+                edges.add(edgeOfSlot[slot]);
+            }
+        }
+        return edges;
+    }
+
+    public long getTotalWeight() { return totalWeight; }
+    public int getEdgeCount() { return edgeCount; }
+    public int getVertices() { return vertices; }
+
+    public boolean isSpanningTree() {
+        return treeEdgeCount == vertices - 1;
+    }
+}
@@ -0,0 +1,60 @@
+package mst;
+
+import graph.*;
+import util.EdgeSorter;
+import java.util.Arrays;
+
+// Kruskal over a LongWeightGraph: 64-bit weights are radix-sorted as primitives and
+// the MST is reported as edge ids, with its weight accumulated in a long.
+public class LongKruskalMST {
+    private final LongWeightGraph graph;
+    private final int[] mstEdgeIds;
+    private final long totalWeight;
+
+    public LongKruskalMST(LongWeightGraph graph) {
+        this.graph = graph;
+        this.mstEdgeIds = selectTreeEdges(graph.getVertices(), graph.getEdgeCount(),
+                EdgeSorter.sortedOrder(graph.getWeights()), graph::getSource, graph::getDestination);
+        long weight = 0;
+        for (int edgeId : mstEdgeIds) {
+            weight += graph.getWeight(edgeId);
+        }
+        this.totalWeight = weight;
+    }
+
+    // Endpoint lookup by edge id, so both weight specializations share the scan
+    interface Endpoint {
+        int of(int edgeId);
+    }
+
+    static int[] selectTreeEdges(int vertices, int edgeCount, int[] order, Endpoint source, Endpoint destination) {
+        UnionFind uf = new UnionFind(vertices);
+        int[] treeEdges = new int[Math.max(0, Math.min(vertices - 1, edgeCount))];
+        int added = 0;
+        for (int i = 0; i < order.length && added < treeEdges.length; i++) {
+            int edgeId = order[i];
+            if (uf.union(source.of(edgeId), destination.of(edgeId))) {
+                treeEdges[added++] = edgeId;
+            }
+        }
+        return Arrays.copyOf(treeEdges, added);
+    }
+
+    public int[] getMSTEdgeIds() { return mstEdgeIds.clone(); }
+    public long getTotalWeight() { return totalWeight; }
+
+    public boolean isValid(int vertices) {
+        return mstEdgeIds.length == vertices - 1;
+    }
+
+    public void displayMST() {
+        System.out.println("=== MINIMUM SPANNING TREE ===");
+        for (int i = 0; i < mstEdgeIds.length; i++) {
+            int edgeId = mstEdgeIds[i];
+            System.out.println((i + 1) + ". " + graph.getSource(edgeId) + " -- " +
+                    graph.getDestination(edgeId) + " (weight: " + graph.getWeight(edgeId) + ")");
+        }
+        System.out.println("Total Weight: " + totalWeight);
+        System.out.println("Edges: " + mstEdgeIds.length);
+    }
+}
@@ -0,0 +1,11 @@
+package mst;
+
+import graph.Edge;
+import java.util.List;
+
+public interface MSTAlgorithm {
+    List<Edge> getMSTEdges();
+    long getTotalWeight(); // long so sums of int weights cannot overflow
+    boolean isValid(int vertices);
+    void displayMST();
+}
@@ -0,0 +1,152 @@
+package mst;
+
+import graph.*;
+import util.ComponentFinder;
+import util.ComponentLabels;
+import util.EdgeSorter;
+import java.util.*;
+
+// Shares MST results between callers that ask about the same Graph. Entries are keyed
+// by graph identity and remember the graph's modification count; any addEdge since
+// the entry was filled makes it stale, and it is recomputed on the next request.
+// At most maxEntries graphs are kept, least recently used first out.
+public class MSTCache {
+    private final MSTEngine engine;
+    private final LinkedHashMap<GraphKey, CachedResult> entries;
+
+    private long hits;
+    private long misses;
+    private long invalidations;
+    private long evictions;
+
+    public MSTCache(int maxEntries) {
+        this(maxEntries, MSTEngine.KRUSKAL);
+    }
+
+    public MSTCache(int maxEntries, MSTEngine engine) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        this.engine = engine;
+        this.entries = new LinkedHashMap<GraphKey, CachedResult>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<GraphKey, CachedResult> eldest) {
+                if (size() > maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized MSTAlgorithm getMST(Graph graph) {
+        CachedResult entry = entryFor(graph);
+        if (entry.mst != null) {
+            hits++;
+        } else {
+            misses++;
+            entry.mst = engine.build(graph);
+        }
+        return entry.mst;
+    }
+
+    // Indices into graph.getEdges() in (weight, index) order; callers must not modify it
+    public synchronized int[] getSortedEdgeOrder(Graph graph) {
+        CachedResult entry = entryFor(graph);
+        if (entry.sortedOrder != null) {
+            hits++;
+        } else {
+            misses++;
+            List<Edge> edges = graph.getEdges();
+            int[] weights = new int[edges.size()];
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = edges.get(i).getWeight();
+            }
+            entry.sortedOrder = EdgeSorter.sortedOrder(weights, EdgeSorter.Mode.AUTO);
+        }
+        return entry.sortedOrder;
+    }
+
+    public synchronized ComponentLabels getComponents(Graph graph) {
+        CachedResult entry = entryFor(graph);
+        if (entry.components != null) {
+            hits++;
+        } else {
+            misses++;
+            entry.components = ComponentFinder.labelComponents(graph.getVertices(), graph.getEdges());
+        }
+        return entry.components;
+    }
+
+    private CachedResult entryFor(Graph graph) {
+        GraphKey key = new GraphKey(graph);
+        CachedResult entry = entries.get(key);
+        if (entry != null && entry.version != graph.getModificationCount()) {
+            invalidations++;
+            entry = null;
+        }
+        if (entry == null) {
+            entry = new CachedResult(graph.getModificationCount());
+            entries.put(key, entry);
+        }
+        return entry;
+    }
+
+    public synchronized void invalidate(Graph graph) {
+        entries.remove(new GraphKey(graph));
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() { return entries.size(); }
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+    public synchronized long getInvalidations() { return invalidations; }
+    public synchronized long getEvictions() { return evictions; }
+
+    public synchronized double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    public synchronized void displayStats() {
+        System.out.println("=== MST CACHE ===");
+        System.out.println("Entries: " + entries.size());
+        System.out.println("Hits: " + hits + ", misses: " + misses +
+                String.format(" (hit rate %.1f%%)", getHitRate() * 100));
+        System.out.println("Invalidations: " + invalidations + ", evictions: " + evictions);
+    }
+
+    private static class CachedResult {
+        final int version;
+        MSTAlgorithm mst;
+        int[] sortedOrder;
+        ComponentLabels components;
+
+        CachedResult(int version) {
+            this.version = version;
+        }
+    }
+
+    // Identity key: two equal-looking graphs are still different graphs
+    private static class GraphKey {
+        final Graph graph;
+
+        GraphKey(Graph graph) {
+            this.graph = graph;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof GraphKey && ((GraphKey) obj).graph == graph;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(graph);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package mst;
+
+import graph.CompactGraph;
+import graph.Graph;
+
+// Runtime choice of MST algorithm, e.g. from a command line argument
+public enum MSTEngine {
+    KRUSKAL {
+        @Override
+        public MSTAlgorithm build(Graph graph) { return new KruskalMST(graph); }
+
+        @Override
+        public MSTAlgorithm build(CompactGraph graph) { return new KruskalMST(graph); }
+    },
+    FILTER_KRUSKAL {
+        @Override
+        public MSTAlgorithm build(CompactGraph graph) { return new FilterKruskalMST(graph); }
+    },
+    BORUVKA {
+        @Override
+        public MSTAlgorithm build(CompactGraph graph) { return new BoruvkaMST(graph); }
+    },
+    PRIM {
+        @Override
+        public MSTAlgorithm build(Graph graph) { return new PrimMST(graph); }
+
+        @Override
+        public MSTAlgorithm build(CompactGraph graph) { return new PrimMST(graph); }
+    };
+
+    public MSTAlgorithm build(Graph graph) {
+        return build(CompactGraph.fromGraph(graph));
+    }
+
+    public abstract MSTAlgorithm build(CompactGraph graph);
+
+    public static MSTEngine fromName(String name) {
+        for (MSTEngine engine : values()) {
+            if (engine.name().equalsIgnoreCase(name.trim().replace('-', '_'))) {
+                return engine;
+            }
+        }
+        throw new IllegalArgumentException("Unknown MST engine: " + name);
+    }
+}
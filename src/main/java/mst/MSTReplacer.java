@@ -1,182 +1,571 @@
 package mst;
 
 import graph.*;
+import metrics.MSTListener;
 import util.ComponentFinder;
+import util.ComponentLabels;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class MSTReplacer {
-    private final Graph originalGraph;
-    private List<Edge> currentMSTEdges;
-    private Edge lastRemovedEdge; // Добавляем отслеживание удаленного ребра
+    private final CompactGraph originalGraph;
+    // Published forest: readers get a consistent immutable version via getSnapshot(),
+    // the single writer derives the next one and swaps it in once per operation
+    private final AtomicReference<MSTSnapshot> snapshot;
+    // Snapshot slot of each tree edge id (-1 if not in the tree), so a new version
+    // costs O(log V) with no scan for the edge; emptied slots are reused by additions
+    private int[] slotOfEdgeId;
+    private int[] freeSlots;
+    private int freeSlotCount;
+    private MSTListener listener = MSTListener.NOOP;
+    // Id of the last removed edge (-1 if none): never its own replacement, though a
+    // parallel copy with another id is, as in removeAndReplaceAll and ReplacementTable
+    private int lastRemovedId;
+    private final BitSet treeEdgeIds; // Принадлежность ребра дереву по его id
+    // Edges added by insertAndReplace; they get ids after the original graph's edges
+    private final List<Edge> insertedEdges;
+
+    // Euler tour of the current forest: v is in the subtree of c iff
+    // entry[c] <= entry[v] <= exit[c]. Rebuilt lazily after the tree changes.
+    private boolean eulerTourValid;
+    private int[] entry;
+    private int[] exit;
+    private int[] treeRoot;
+    private int[] parentEdgeId;
+    private final ReplacementWorkspace workspace;
+
+    // Edge ids whose tree membership was flipped by removeAndReplaceId since the last
+    // publish(); a set bit is a net change the snapshot has not seen yet
+    private final BitSet pendingChanges;
+
+    // Link-cut tree of the current forest, built on the first insertion and kept in sync
+    // by removeAndReplace. Tree edges are extra nodes [V, 2V - 1) carrying the weight.
+    private LinkCutTree linkTree;
+    private int[] edgeIdOfNode;
+    private int[] nodeOfEdgeId;
+    private int[] freeTreeNodes;
+    private int freeTreeNodeCount;
 
     public MSTReplacer(Graph originalGraph, List<Edge> mstEdges) {
+        this(CompactGraph.fromGraph(originalGraph), mstEdges);
+    }
+
+    public MSTReplacer(Graph originalGraph, MSTEngine engine) {
+        this(CompactGraph.fromGraph(originalGraph), engine);
+    }
+
+    public MSTReplacer(CompactGraph originalGraph, MSTEngine engine) {
+        this(originalGraph, engine.build(originalGraph).getMSTEdges());
+    }
+
+    public MSTReplacer(CompactGraph originalGraph, List<Edge> mstEdges) {
+        this(originalGraph, mstEdges, new ReplacementWorkspace());
+    }
+
+    public MSTReplacer(CompactGraph originalGraph, List<Edge> mstEdges, ReplacementWorkspace workspace) {
         this.originalGraph = originalGraph;
-        this.currentMSTEdges = new ArrayList<>(mstEdges);
-        this.lastRemovedEdge = null;
+        this.snapshot = new AtomicReference<>(MSTSnapshot.of(originalGraph.getVertices(), mstEdges));
+        this.freeSlots = new int[16];
+        this.lastRemovedId = -1;
+        this.workspace = workspace;
+        this.pendingChanges = new BitSet(originalGraph.getEdgeCount());
+        this.treeEdgeIds = new BitSet(originalGraph.getEdgeCount());
+        this.insertedEdges = new ArrayList<>();
+        this.slotOfEdgeId = new int[originalGraph.getEdgeCount() + 16];
+        Arrays.fill(slotOfEdgeId, -1);
+        int[] ids = originalGraph.findEdgeIds(mstEdges);
+        for (int slot = 0; slot < ids.length; slot++) { // MSTSnapshot.of keeps list order
+            treeEdgeIds.set(ids[slot]);
+            slotOfEdgeId[ids[slot]] = slot;
+        }
+        this.eulerTourValid = false;
     }
 
-    public Edge removeAndReplace(Edge edgeToRemove) {
-        System.out.println("=== EDGE REMOVAL ===");
+    public void setListener(MSTListener listener) {
+        this.listener = listener == null ? MSTListener.NOOP : listener;
+    }
 
+    public Edge removeAndReplace(Edge edgeToRemove) {
+        publish();
+        int removedId = findTreeEdgeId(edgeToRemove.getSource(), edgeToRemove.getDestination());
         // Сохраняем удаленное ребро
-        this.lastRemovedEdge = edgeToRemove;
-
-        boolean removed = currentMSTEdges.removeIf(edge ->
-                (edge.getSource() == edgeToRemove.getSource() &&
-                        edge.getDestination() == edgeToRemove.getDestination()) ||
-                        (edge.getSource() == edgeToRemove.getDestination() &&
-                                edge.getDestination() == edgeToRemove.getSource())
-        );
+        lastRemovedId = removedId;
 
-        if (!removed) {
-            System.out.println("Edge not found in MST");
+        if (removedId == -1) {
+            listener.onEdgeNotInTree(edgeToRemove);
             return null;
         }
 
-        System.out.println("Removed: " + edgeToRemove.getSource() + " -- " +
-                edgeToRemove.getDestination() + " (weight: " + edgeToRemove.getWeight() + ")");
+        MSTSnapshot next = withoutEdge(snapshot.get(), removedId);
+        int child = cutTreeEdge(removedId);
+        listener.onEdgeRemoved(edgeToRemove);
+        if (listener != MSTListener.NOOP) {
+            listener.onComponentsFound(componentsWithout(child));
+        }
 
-        List<Set<Integer>> components = ComponentFinder.findComponents(
-                originalGraph.getVertices(), currentMSTEdges
-        );
+        long searchStart = System.nanoTime();
+        int replacementId = linkReplacement(child);
+        Edge replacement = replacementId == -1 ? null : edgeAt(replacementId);
+        if (replacement != null) {
+            next = withEdge(next, replacementId, replacement);
+        }
+        listener.onReplacementSearch(edgeToRemove, replacement, edgeCount(), System.nanoTime() - searchStart);
 
-        ComponentFinder.displayComponents(components);
+        snapshot.set(next);
+        return replacement;
+    }
 
-        if (components.size() == 1) {
-            System.out.println("No replacement needed");
-            return null;
+    // Allocation-free removeAndReplace for sweeps: takes and returns edge ids (-1 for no
+    // replacement, or if the edge is not in the tree) and only records the change; the
+    // snapshot catches up on publish() or on the next Edge-based operation. With the
+    // NOOP listener the steady state allocates nothing once the workspace fits the graph.
+    public int removeAndReplaceId(int edgeId) {
+        if (edgeId < 0 || edgeId >= edgeCount()) {
+            throw new IllegalArgumentException("Edge id out of range: " + edgeId);
+        }
+        lastRemovedId = edgeId;
+        if (!treeEdgeIds.get(edgeId)) {
+            if (listener != MSTListener.NOOP) {
+                listener.onEdgeNotInTree(edgeAt(edgeId));
+            }
+            return -1;
         }
 
-        Edge replacement = findReplacementEdge(components);
+        pendingChanges.flip(edgeId);
+        int child = cutTreeEdge(edgeId);
+        boolean observed = listener != MSTListener.NOOP; // Edge objects only for a real listener
+        if (observed) {
+            listener.onEdgeRemoved(edgeAt(edgeId));
+            listener.onComponentsFound(componentsWithout(child));
+        }
 
-        if (replacement != null) {
-            // Проверяем, что replacement не совпадает с удаленным ребром
-            boolean isSameAsRemoved =
-                    (replacement.getSource() == lastRemovedEdge.getSource() &&
-                            replacement.getDestination() == lastRemovedEdge.getDestination()) ||
-                            (replacement.getSource() == lastRemovedEdge.getDestination() &&
-                                    replacement.getDestination() == lastRemovedEdge.getSource());
-
-            if (isSameAsRemoved) {
-                System.out.println("Warning: Replacement edge is the same as removed edge!");
-                return null;
+        long searchStart = observed ? System.nanoTime() : 0;
+        int replacementId = linkReplacement(child);
+        if (replacementId != -1) {
+            pendingChanges.flip(replacementId);
+        }
+        if (observed) {
+            listener.onReplacementSearch(edgeAt(edgeId), replacementId == -1 ? null : edgeAt(replacementId),
+                    edgeCount(), System.nanoTime() - searchStart);
+        }
+        return replacementId;
+    }
+
+    // Publishes the changes recorded by removeAndReplaceId in a single snapshot swap;
+    // removals go first so additions can reuse their slots
+    public void publish() {
+        if (pendingChanges.isEmpty()) return;
+        MSTSnapshot next = snapshot.get();
+        for (int id = pendingChanges.nextSetBit(0); id >= 0; id = pendingChanges.nextSetBit(id + 1)) {
+            if (!treeEdgeIds.get(id)) {
+                next = withoutEdge(next, id);
+            }
+        }
+        for (int id = pendingChanges.nextSetBit(0); id >= 0; id = pendingChanges.nextSetBit(id + 1)) {
+            if (treeEdgeIds.get(id)) {
+                next = withEdge(next, id, edgeAt(id));
             }
+        }
+        pendingChanges.clear();
+        snapshot.set(next);
+    }
 
-            currentMSTEdges.add(replacement);
-            System.out.println("Replacement: " + replacement.getSource() + " -- " +
-                    replacement.getDestination() + " (weight: " + replacement.getWeight() + ")");
-        } else {
-            System.out.println("No replacement found");
+    // Removes a tree edge from the bit set and link-cut tree; returns the endpoint on
+    // the detached side. The Euler tour arrays still describe the tree before the cut.
+    private int cutTreeEdge(int removedId) {
+        ensureEulerTour();
+        int source = sourceOf(removedId);
+        int dest = destinationOf(removedId);
+        treeEdgeIds.clear(removedId);
+        eulerTourValid = false;
+        if (linkTree != null) {
+            unlinkTreeEdge(removedId);
         }
+        return parentEdgeId[dest] == removedId ? dest : source;
+    }
 
-        return replacement;
+    // Cheapest edge reconnecting the subtree of child, added to the tree; -1 if none
+    private int linkReplacement(int child) {
+        int replacementId = findReplacementEdgeId(child);
+        if (replacementId != -1) {
+            treeEdgeIds.set(replacementId);
+            if (linkTree != null) {
+                linkTreeEdge(replacementId);
+            }
+        }
+        return replacementId;
     }
 
-    private Edge findReplacementEdge(List<Set<Integer>> components) {
-        if (components.size() != 2) {
-            return findReplacementEdgeMultipleComponents(components);
+    // New link u -- v: if u and v are already connected, the heaviest edge on their tree
+    // path is found with the link-cut tree and evicted when the new edge is cheaper.
+    // O(log V) amortized per call: the evicted edge leaves the snapshot through its
+    // slot index, not a scan. Pending id-based removals are published first, at
+    // O(log V) each, and the first call builds the link-cut tree in O(V log V).
+    // Returns the evicted edge, or null if none was.
+    public Edge insertAndReplace(Edge edgeToInsert) {
+        int source = edgeToInsert.getSource();
+        int dest = edgeToInsert.getDestination();
+        if (source < 0 || source >= originalGraph.getVertices() ||
+                dest < 0 || dest >= originalGraph.getVertices()) {
+            throw new IllegalArgumentException("Vertex out of range");
         }
 
-        Set<Integer> component1 = components.get(0);
-        Set<Integer> component2 = components.get(1);
-        Edge minEdge = null;
-        int minWeight = Integer.MAX_VALUE;
+        publish();
+        ensureLinkTree();
+        int insertedId = originalGraph.getEdgeCount() + insertedEdges.size();
+        insertedEdges.add(edgeToInsert);
 
-        // Ищем среди всех ребер исходного графа
-        for (Edge edge : originalGraph.getEdges()) {
-            int source = edge.getSource();
-            int dest = edge.getDestination();
-
-            // Проверяем, что ребро соединяет две разные компоненты
-            boolean connectsComponents =
-                    (component1.contains(source) && component2.contains(dest)) ||
-                            (component2.contains(source) && component1.contains(dest));
-
-            if (connectsComponents) {
-                // Проверяем, что ребро не уже в текущем MST
-                boolean alreadyInMST = isEdgeInMST(edge);
-
-                // Проверяем, что это не удаленное ребро
-                boolean isRemovedEdge = (lastRemovedEdge != null) &&
-                        ((edge.getSource() == lastRemovedEdge.getSource() &&
-                                edge.getDestination() == lastRemovedEdge.getDestination()) ||
-                                (edge.getSource() == lastRemovedEdge.getDestination() &&
-                                        edge.getDestination() == lastRemovedEdge.getSource()));
-
-                if (!alreadyInMST && !isRemovedEdge && edge.getWeight() < minWeight) {
-                    minWeight = edge.getWeight();
-                    minEdge = edge;
-                }
+        if (source == dest) {
+            listener.onEdgeInserted(edgeToInsert, null);
+            return null;
+        }
+        if (!linkTree.connected(source, dest)) {
+            snapshot.set(addTreeEdge(snapshot.get(), insertedId));
+            listener.onEdgeInserted(edgeToInsert, null);
+            return null;
+        }
+
+        int heaviest = linkTree.pathMax(source, dest);
+        if (linkTree.getValue(heaviest) <= edgeToInsert.getWeight()) {
+            listener.onEdgeInserted(edgeToInsert, null);
+            return null;
+        }
+
+        int evictedId = edgeIdOfNode[heaviest - originalGraph.getVertices()];
+        Edge evicted = edgeAt(evictedId);
+        unlinkTreeEdge(evictedId);
+        treeEdgeIds.clear(evictedId);
+        snapshot.set(addTreeEdge(withoutEdge(snapshot.get(), evictedId), insertedId));
+        listener.onEdgeInserted(edgeToInsert, evicted);
+        return evicted;
+    }
+
+    private MSTSnapshot addTreeEdge(MSTSnapshot current, int edgeId) {
+        treeEdgeIds.set(edgeId);
+        eulerTourValid = false;
+        linkTreeEdge(edgeId);
+        return withEdge(current, edgeId, edgeAt(edgeId));
+    }
+
+    private MSTSnapshot withoutEdge(MSTSnapshot current, int edgeId) {
+        int slot = slotOfEdgeId[edgeId];
+        slotOfEdgeId[edgeId] = -1;
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlotCount * 2);
+        }
+        freeSlots[freeSlotCount++] = slot;
+        return current.withSlot(slot, null);
+    }
+
+    // edge is edgeAt(edgeId), passed in so callers can return the same object
+    private MSTSnapshot withEdge(MSTSnapshot current, int edgeId, Edge edge) {
+        if (edgeId >= slotOfEdgeId.length) {
+            int oldLength = slotOfEdgeId.length;
+            slotOfEdgeId = Arrays.copyOf(slotOfEdgeId, Math.max(edgeId + 1, oldLength * 2));
+            Arrays.fill(slotOfEdgeId, oldLength, slotOfEdgeId.length, -1);
+        }
+        if (freeSlotCount == 0) {
+            slotOfEdgeId[edgeId] = current.getSlotCount();
+            return current.withAppended(edge);
+        }
+        int slot = freeSlots[--freeSlotCount];
+        slotOfEdgeId[edgeId] = slot;
+        return current.withSlot(slot, edge);
+    }
+
+    private void ensureLinkTree() {
+        if (linkTree != null) return;
+        int vertices = originalGraph.getVertices();
+        linkTree = new LinkCutTree(2 * vertices);
+        edgeIdOfNode = new int[vertices];
+        nodeOfEdgeId = new int[edgeCount() + 16];
+        Arrays.fill(nodeOfEdgeId, -1);
+        freeTreeNodes = new int[Math.max(0, vertices - 1)];
+        freeTreeNodeCount = 0;
+        for (int node = 2 * vertices - 2; node >= vertices; node--) {
+            freeTreeNodes[freeTreeNodeCount++] = node;
+        }
+        for (int id = treeEdgeIds.nextSetBit(0); id >= 0; id = treeEdgeIds.nextSetBit(id + 1)) {
+            linkTreeEdge(id);
+        }
+    }
+
+    private void linkTreeEdge(int edgeId) {
+        if (edgeId >= nodeOfEdgeId.length) {
+            int oldLength = nodeOfEdgeId.length;
+            nodeOfEdgeId = Arrays.copyOf(nodeOfEdgeId, Math.max(edgeId + 1, oldLength * 2));
+            Arrays.fill(nodeOfEdgeId, oldLength, nodeOfEdgeId.length, -1);
+        }
+        int node = freeTreeNodes[--freeTreeNodeCount];
+        edgeIdOfNode[node - originalGraph.getVertices()] = edgeId;
+        nodeOfEdgeId[edgeId] = node;
+        linkTree.setValue(node, weightOf(edgeId));
+        linkTree.link(node, sourceOf(edgeId));
+        linkTree.link(destinationOf(edgeId), node);
+    }
+
+    private void unlinkTreeEdge(int edgeId) {
+        int node = nodeOfEdgeId[edgeId];
+        linkTree.cut(sourceOf(edgeId), node);
+        linkTree.cut(node, destinationOf(edgeId));
+        linkTree.reset(node);
+        freeTreeNodes[freeTreeNodeCount++] = node;
+        nodeOfEdgeId[edgeId] = -1;
+    }
+
+    // Edge ids below the original edge count belong to the graph, the rest to insertedEdges
+    private int edgeCount() { return originalGraph.getEdgeCount() + insertedEdges.size(); }
+
+    private int sourceOf(int edgeId) {
+        int base = originalGraph.getEdgeCount();
+        return edgeId < base ? originalGraph.getSource(edgeId) : insertedEdges.get(edgeId - base).getSource();
+    }
+
+    private int destinationOf(int edgeId) {
+        int base = originalGraph.getEdgeCount();
+        return edgeId < base ? originalGraph.getDestination(edgeId) : insertedEdges.get(edgeId - base).getDestination();
+    }
+
+    private int weightOf(int edgeId) {
+        int base = originalGraph.getEdgeCount();
+        return edgeId < base ? originalGraph.getWeight(edgeId) : insertedEdges.get(edgeId - base).getWeight();
+    }
+
+    private Edge edgeAt(int edgeId) {
+        int base = originalGraph.getEdgeCount();
+        return edgeId < base ? originalGraph.getEdge(edgeId) : insertedEdges.get(edgeId - base);
+    }
+
+    // k simultaneous failures: contract the surviving forest with a union-find, then run
+    // Kruskal over the non-tree edges that cross between surviving components only.
+    public List<Edge> removeAndReplaceAll(Collection<Edge> edgesToRemove) {
+        publish();
+        BitSet removedIds = new BitSet(edgeCount());
+        MSTSnapshot next = snapshot.get();
+        int removedCount = 0;
+        for (Edge edge : edgesToRemove) {
+            int removedId = findTreeEdgeId(edge.getSource(), edge.getDestination());
+            if (removedId == -1) {
+                listener.onEdgeNotInTree(edge);
+                continue;
             }
+            treeEdgeIds.clear(removedId);
+            removedIds.set(removedId);
+            next = withoutEdge(next, removedId);
+            listener.onEdgeRemoved(edge);
+            removedCount++;
+        }
+        if (removedCount == 0) {
+            return new ArrayList<>();
+        }
+        eulerTourValid = false;
+        linkTree = null; // rebuilt on the next insertion
+
+        long searchStart = System.nanoTime();
+        UnionFind components = new UnionFind(originalGraph.getVertices());
+        if (listener != MSTListener.NOOP) {
+            components.setListener(listener);
+        }
+        for (int id = treeEdgeIds.nextSetBit(0); id >= 0; id = treeEdgeIds.nextSetBit(id + 1)) {
+            components.union(sourceOf(id), destinationOf(id));
         }
 
-        return minEdge;
+        long[] crossing = new long[edgeCount()];
+        int count = 0;
+        for (int edgeId = 0; edgeId < edgeCount(); edgeId++) {
+            int source = sourceOf(edgeId);
+            int dest = destinationOf(edgeId);
+            // A parallel copy of a removed edge is a valid replacement; only the removed ids are not
+            if (treeEdgeIds.get(edgeId) || removedIds.get(edgeId)) continue;
+            if (components.find(source) == components.find(dest)) continue;
+            crossing[count++] = ((long) weightOf(edgeId) << 32) | edgeId;
+        }
+        Arrays.sort(crossing, 0, count);
+
+        List<Edge> replacements = new ArrayList<>();
+        for (int i = 0; i < count && replacements.size() < removedCount; i++) {
+            int edgeId = (int) crossing[i];
+            if (components.union(sourceOf(edgeId), destinationOf(edgeId))) {
+                Edge replacement = edgeAt(edgeId);
+                replacements.add(replacement);
+                next = withEdge(next, edgeId, replacement);
+                treeEdgeIds.set(edgeId);
+            }
+        }
+        listener.onReplacementBatch(removedCount, replacements, edgeCount(), System.nanoTime() - searchStart);
+        snapshot.set(next);
+        return replacements;
     }
 
-    private Edge findReplacementEdgeMultipleComponents(List<Set<Integer>> components) {
-        Edge minEdge = null;
+    // Single O(E) pass: an edge reconnects the split tree iff it stays inside that
+    // tree and exactly one endpoint lies in the detached subtree of child
+    private int findReplacementEdgeId(int child) {
+        int minEdgeId = -1;
         int minWeight = Integer.MAX_VALUE;
+        int root = treeRoot[child];
+        int subtreeStart = entry[child];
+        int subtreeEnd = exit[child];
 
-        for (Edge edge : originalGraph.getEdges()) {
-            // Проверяем, что ребро не уже в MST
-            boolean alreadyInMST = isEdgeInMST(edge);
+        // Ищем среди всех ребер исходного графа
+        for (int edgeId = 0; edgeId < edgeCount(); edgeId++) {
+            int weight = weightOf(edgeId);
+            if (weight >= minWeight) continue;
+
+            int source = sourceOf(edgeId);
+            int dest = destinationOf(edgeId);
+            if (treeRoot[source] != root || treeRoot[dest] != root) continue;
+
+            // Проверяем, что ребро пересекает разрез: два сравнения интервалов
+            boolean sourceInside = entry[source] >= subtreeStart && entry[source] <= subtreeEnd;
+            boolean destInside = entry[dest] >= subtreeStart && entry[dest] <= subtreeEnd;
+            if (sourceInside == destInside) continue;
+
+            // Проверяем, что ребро не уже в текущем MST и не удаленное ребро
+            if (!treeEdgeIds.get(edgeId) && edgeId != lastRemovedId) {
+                minWeight = weight;
+                minEdgeId = edgeId;
+            }
+        }
 
-            // Проверяем, что это не удаленное ребро
-            boolean isRemovedEdge = (lastRemovedEdge != null) &&
-                    ((edge.getSource() == lastRemovedEdge.getSource() &&
-                            edge.getDestination() == lastRemovedEdge.getDestination()) ||
-                            (edge.getSource() == lastRemovedEdge.getDestination() &&
-                                    edge.getDestination() == lastRemovedEdge.getSource()));
+        return minEdgeId;
+    }
 
-            if (alreadyInMST || isRemovedEdge) continue;
+    // Tree edge id between source and dest, or -1; the id form used by removeAndReplaceId
+    public int findTreeEdgeId(int source, int dest) {
+        for (int slot = originalGraph.adjacencyStart(source); slot < originalGraph.adjacencyEnd(source); slot++) {
+            int edgeId = originalGraph.getAdjacentEdgeId(slot);
+            if (originalGraph.getTarget(slot) == dest && treeEdgeIds.get(edgeId)) {
+                return edgeId;
+            }
+        }
+        for (int i = 0; i < insertedEdges.size(); i++) {
+            int edgeId = originalGraph.getEdgeCount() + i;
+            if (treeEdgeIds.get(edgeId) && sameEndpoints(insertedEdges.get(i), source, dest)) {
+                return edgeId;
+            }
+        }
+        return -1;
+    }
 
-            // Проверяем, что ребро соединяет разные компоненты
-            int sourceComponent = -1;
-            int destComponent = -1;
+    private void ensureEulerTour() {
+        if (eulerTourValid) return;
+        int vertices = originalGraph.getVertices();
+        if (entry == null) {
+            entry = new int[vertices];
+            exit = new int[vertices];
+            treeRoot = new int[vertices];
+            parentEdgeId = new int[vertices];
+        }
+        Arrays.fill(treeRoot, -1);
+        workspace.prepare(vertices, vertices - 1);
+
+        // Adjacency of the tree edges only, in CSR form
+        int[] offsets = workspace.tourOffsets;
+        Arrays.fill(offsets, 0, vertices + 1, 0);
+        for (int id = treeEdgeIds.nextSetBit(0); id >= 0; id = treeEdgeIds.nextSetBit(id + 1)) {
+            offsets[sourceOf(id) + 1]++;
+            offsets[destinationOf(id) + 1]++;
+        }
+        for (int v = 0; v < vertices; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        int[] adjacentIds = workspace.tourAdjacentIds;
+        int[] next = workspace.tourCursor;
+        System.arraycopy(offsets, 0, next, 0, vertices);
+        for (int id = treeEdgeIds.nextSetBit(0); id >= 0; id = treeEdgeIds.nextSetBit(id + 1)) {
+            adjacentIds[next[sourceOf(id)]++] = id;
+            adjacentIds[next[destinationOf(id)]++] = id;
+        }
 
-            for (int i = 0; i < components.size(); i++) {
-                if (components.get(i).contains(edge.getSource())) {
-                    sourceComponent = i;
+        // Iterative DFS; next[v] doubles as the cursor into v's tree adjacency
+        System.arraycopy(offsets, 0, next, 0, vertices);
+        int[] stack = workspace.stack;
+        int time = 0;
+        for (int start = 0; start < vertices; start++) {
+            if (treeRoot[start] != -1) continue;
+            int top = 0;
+            stack[top++] = start;
+            treeRoot[start] = start;
+            parentEdgeId[start] = -1;
+            entry[start] = time++;
+            while (top > 0) {
+                int vertex = stack[top - 1];
+                if (next[vertex] == offsets[vertex + 1]) {
+                    exit[vertex] = time - 1;
+                    top--;
+                    continue;
                 }
-                if (components.get(i).contains(edge.getDestination())) {
-                    destComponent = i;
+                int id = adjacentIds[next[vertex]++];
+                int neighbor = sourceOf(id) == vertex ? destinationOf(id) : sourceOf(id);
+                if (treeRoot[neighbor] == -1) {
+                    treeRoot[neighbor] = start;
+                    parentEdgeId[neighbor] = id;
+                    entry[neighbor] = time++;
+                    stack[top++] = neighbor;
                 }
             }
+        }
+        eulerTourValid = true;
+    }
 
-            if (sourceComponent != destComponent && sourceComponent != -1 && destComponent != -1) {
-                if (edge.getWeight() < minWeight) {
-                    minWeight = edge.getWeight();
-                    minEdge = edge;
-                }
+    // Components of the forest once the parent edge of child is gone
+    private ComponentLabels componentsWithout(int child) {
+        int vertices = originalGraph.getVertices();
+        workspace.prepare(vertices, 0);
+        int[] labelOfKey = workspace.labelOfKey;
+        Arrays.fill(labelOfKey, 0, vertices + 1, -1);
+        int[] componentOf = new int[vertices];
+        int[] sizes = new int[vertices];
+        int count = 0;
+        for (int v = 0; v < vertices; v++) {
+            boolean inside = entry[v] >= entry[child] && entry[v] <= exit[child];
+            int key = inside ? vertices : treeRoot[v];
+            if (labelOfKey[key] == -1) {
+                labelOfKey[key] = count++;
             }
+            componentOf[v] = labelOfKey[key];
+            sizes[componentOf[v]]++;
         }
+        return new ComponentLabels(componentOf, Arrays.copyOf(sizes, count));
+    }
 
-        return minEdge;
+    private static boolean sameEndpoints(Edge edge, int source, int dest) {
+        return (edge.getSource() == source && edge.getDestination() == dest) ||
+                (edge.getSource() == dest && edge.getDestination() == source);
     }
 
-    // Вспомогательный метод для проверки наличия ребра в MST
-    private boolean isEdgeInMST(Edge edge) {
-        return currentMSTEdges.stream()
-                .anyMatch(mstEdge ->
-                        (mstEdge.getSource() == edge.getSource() &&
-                                mstEdge.getDestination() == edge.getDestination()) ||
-                                (mstEdge.getSource() == edge.getDestination() &&
-                                        mstEdge.getDestination() == edge.getSource())
-                );
+    public ReplacementTable computeReplacementTable() {
+        publish();
+        if (insertedEdges.isEmpty()) {
+            return new ReplacementTable(originalGraph, getCurrentMSTEdges());
+        }
+        List<Edge> allEdges = new ArrayList<>(originalGraph.getEdges());
+        allEdges.addAll(insertedEdges);
+        return new ReplacementTable(CompactGraph.fromEdges(originalGraph.getVertices(), allEdges), getCurrentMSTEdges());
     }
 
     public List<Edge> getCurrentMSTEdges() {
-        return new ArrayList<>(currentMSTEdges);
+        return snapshot.get().getEdges();
+    }
+
+    // Maintained incrementally by every replacement, in a long
+    public long getTotalWeight() {
+        return snapshot.get().getTotalWeight();
+    }
+
+    // Current immutable version of the forest; safe to read from any thread
+    public MSTSnapshot getSnapshot() {
+        return snapshot.get();
     }
 
     public void displayCurrentMST() {
         System.out.println("=== UPDATED MST ===");
+        List<Edge> currentMSTEdges = getCurrentMSTEdges();
         for (int i = 0; i < currentMSTEdges.size(); i++) {
             Edge edge = currentMSTEdges.get(i);
             System.out.println((i + 1) + ". " + edge.getSource() + " -- " +
                     edge.getDestination() + " (weight: " + edge.getWeight() + ")");
         }
-        int totalWeight = Graph.calculateTotalWeight(currentMSTEdges);
-        System.out.println("Total Weight: " + totalWeight);
+        System.out.println("Total Weight: " + getTotalWeight());
     }
 }
\ No newline at end of file
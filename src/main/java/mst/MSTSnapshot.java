@@ -0,0 +1,88 @@
+package mst;
+
+import graph.*;
+import util.ComponentFinder;
+import util.ComponentLabels;
+import util.PersistentVector;
+import java.util.*;
+import java.util.function.Consumer;
+
+// Immutable version of a spanning forest. Tree edges sit in slots of a persistent
+// vector; a removal without replacement leaves an empty (null) slot that a later
+// addition reuses. A writer derives the next version in O(log V) by path copying,
+// so readers holding an older snapshot keep a consistent view without locks or copies.
+public final class MSTSnapshot {
+    private final long version;
+    private final int vertices;
+    private final PersistentVector<Edge> slots;
+    private final int edgeCount;
+    private final long totalWeight;
+    private volatile ComponentLabels components; // computed on first request
+
+    private MSTSnapshot(long version, int vertices, PersistentVector<Edge> slots, int edgeCount, long totalWeight) {
+        this.version = version;
+        this.vertices = vertices;
+        this.slots = slots;
+        this.edgeCount = edgeCount;
+        this.totalWeight = totalWeight;
+    }
+
+    public static MSTSnapshot of(int vertices, List<Edge> treeEdges) {
+        long weight = 0;
+        for (Edge edge : treeEdges) {
+            weight += edge.getWeight();
+        }
+        return new MSTSnapshot(0, vertices, PersistentVector.of(treeEdges), treeEdges.size(), weight);
+    }
+
+    // Next version with slot replaced by edge (null empties the slot)
+    MSTSnapshot withSlot(int slot, Edge edge) {
+        Edge old = slots.get(slot);
+        int count = edgeCount + (edge != null ? 1 : 0) - (old != null ? 1 : 0);
+        long weight = totalWeight + (edge != null ? edge.getWeight() : 0) - (old != null ? old.getWeight() : 0);
+        return new MSTSnapshot(version + 1, vertices, slots.set(slot, edge), count, weight);
+    }
+
+    MSTSnapshot withAppended(Edge edge) {
+        return new MSTSnapshot(version + 1, vertices, slots.append(edge), edgeCount + 1, totalWeight + edge.getWeight());
+    }
+
+    public long getVersion() { return version; }
+    public int getVertices() { return vertices; }
+    public int getEdgeCount() { return edgeCount; }
+    public long getTotalWeight() { return totalWeight; }
+    public int getSlotCount() { return slots.size(); }
+
+    // Edge in a slot, or null if the slot is empty
+    public Edge getSlot(int slot) { return slots.get(slot); }
+
+    public void forEachEdge(Consumer<Edge> action) {
+        slots.forEach(edge -> {
+            if (edge != null) action.accept(edge);
+        });
+    }
+
+    public List<Edge> getEdges() {
+        List<Edge> edges = new ArrayList<>(edgeCount);
+        forEachEdge(edges::add);
+        return edges;
+    }
+
+    public ComponentLabels getComponents() {
+        ComponentLabels labels = components;
+        if (labels == null) {
+            // Benign race: concurrent readers compute the same immutable labels
+            labels = ComponentFinder.labelComponents(vertices, getEdges());
+            components = labels;
+        }
+        return labels;
+    }
+
+    public boolean connected(int u, int v) {
+        return getComponents().sameComponent(u, v);
+    }
+
+    public boolean isSpanningTree() {
+        return edgeCount == vertices - 1;
+    }
+}
@@ -0,0 +1,273 @@
+package mst;
+
+import graph.*;
+import java.util.*;
+
+// Offline dynamic connectivity and minimum spanning forest weight over a timeline of
+// edge insertions, deletions and queries. Every edge is alive on an interval of query
+// indices, which a segment tree over [0, Q) splits into O(log Q) nodes. A DFS over
+// the tree adds a node's edges on the way down and undoes them on the way up:
+// connectivity with a RollbackUnionFind, forest weight with a link-cut tree whose
+// swaps (evicting the heaviest cycle edge) are logged and reversed. Total cost
+// O((E log Q + Q) log V).
+public class OfflineDynamicMST {
+    private static final int CONNECTED = 0;
+    private static final int WEIGHT = 1;
+
+    private final int vertices;
+
+    // Timeline as recorded; edge intervals are in query indices
+    private final Map<Edge, Deque<Integer>> openEdges;
+    private final List<Edge> intervalEdges;
+    private int[] intervalStart;
+    private int[] intervalEnd;
+    private int[] queryType;
+    private int[] queryU;
+    private int[] queryV;
+    private int queryCount;
+    private long[] answers;
+
+    // DFS state
+    private RollbackUnionFind components;
+    private LinkCutTree forest;
+    private int[] nodeSource;
+    private int[] nodeDestination;
+    private int[] freeNodes; // stack of unused edge nodes
+    private int freeNodeCount;
+    private int[] undoAdded;
+    private int[] undoEvicted;
+    private int undoSize;
+    private long forestWeight;
+
+    public OfflineDynamicMST(int vertices) {
+        this.vertices = vertices;
+        this.openEdges = new HashMap<>();
+        this.intervalEdges = new ArrayList<>();
+        this.intervalStart = new int[16];
+        this.intervalEnd = new int[16];
+        this.queryType = new int[16];
+        this.queryU = new int[16];
+        this.queryV = new int[16];
+    }
+
+    public void addEdge(int source, int destination, int weight) {
+        addEdge(new Edge(source, destination, weight));
+    }
+
+    public void addEdge(Edge edge) {
+        checkVertex(edge.getSource());
+        checkVertex(edge.getDestination());
+        if (intervalEdges.size() == intervalStart.length) {
+            intervalStart = Arrays.copyOf(intervalStart, intervalStart.length * 2);
+            intervalEnd = Arrays.copyOf(intervalEnd, intervalEnd.length * 2);
+        }
+        int interval = intervalEdges.size();
+        intervalEdges.add(edge);
+        intervalStart[interval] = queryCount;
+        intervalEnd[interval] = -1;
+        openEdges.computeIfAbsent(edge, e -> new ArrayDeque<>()).push(interval);
+        answers = null;
+    }
+
+    // Removes one live copy of the edge; throws if none is alive
+    public void removeEdge(Edge edge) {
+        Deque<Integer> open = openEdges.get(edge);
+        if (open == null || open.isEmpty()) {
+            throw new IllegalArgumentException("Edge not present: " + edge);
+        }
+        intervalEnd[open.pop()] = queryCount;
+        answers = null;
+    }
+
+    public int queryConnected(int u, int v) {
+        checkVertex(u);
+        checkVertex(v);
+        return addQuery(CONNECTED, u, v);
+    }
+
+    public int queryMSTWeight() {
+        return addQuery(WEIGHT, 0, 0);
+    }
+
+    private int addQuery(int type, int u, int v) {
+        if (queryCount == queryType.length) {
+            queryType = Arrays.copyOf(queryType, queryCount * 2);
+            queryU = Arrays.copyOf(queryU, queryCount * 2);
+            queryV = Arrays.copyOf(queryV, queryCount * 2);
+        }
+        queryType[queryCount] = type;
+        queryU[queryCount] = u;
+        queryV[queryCount] = v;
+        answers = null;
+        return queryCount++;
+    }
+
+    public boolean isConnected(int query) {
+        checkQuery(query, CONNECTED);
+        return answers[query] != 0;
+    }
+
+    // Minimum spanning forest weight at the time of the query
+    public long getMSTWeight(int query) {
+        checkQuery(query, WEIGHT);
+        return answers[query];
+    }
+
+    public int getQueryCount() { return queryCount; }
+
+    private void checkQuery(int query, int type) {
+        if (query < 0 || query >= queryCount || queryType[query] != type) {
+            throw new IllegalArgumentException("No such query: " + query);
+        }
+        if (answers == null) {
+            solve();
+        }
+    }
+
+    // Answers every recorded query; called lazily by the getters
+    public void solve() {
+        answers = new long[queryCount];
+        if (queryCount == 0) return;
+
+        int intervals = intervalEdges.size();
+        int treeSize = 1;
+        while (treeSize < queryCount) treeSize <<= 1;
+
+        // Bucket the intervals by segment tree node in CSR form: count, then fill
+        int[] bucketStart = new int[2 * treeSize + 1];
+        for (int i = 0; i < intervals; i++) {
+            int end = intervalEnd[i] == -1 ? queryCount : intervalEnd[i];
+            forEachNode(1, 0, treeSize, intervalStart[i], end, i, bucketStart, null);
+        }
+        for (int node = 0; node < 2 * treeSize; node++) {
+            bucketStart[node + 1] += bucketStart[node];
+        }
+        int[] bucket = new int[bucketStart[2 * treeSize]];
+        int[] cursor = Arrays.copyOf(bucketStart, 2 * treeSize);
+        for (int i = 0; i < intervals; i++) {
+            int end = intervalEnd[i] == -1 ? queryCount : intervalEnd[i];
+            forEachNode(1, 0, treeSize, intervalStart[i], end, i, cursor, bucket);
+        }
+
+        components = new RollbackUnionFind(vertices);
+        forest = new LinkCutTree(vertices + intervals);
+        nodeSource = new int[intervals];
+        nodeDestination = new int[intervals];
+        freeNodes = new int[intervals];
+        freeNodeCount = 0;
+        for (int node = vertices + intervals - 1; node >= vertices; node--) {
+            freeNodes[freeNodeCount++] = node;
+        }
+        undoAdded = new int[Math.max(1, intervals)];
+        undoEvicted = new int[Math.max(1, intervals)];
+        undoSize = 0;
+        forestWeight = 0;
+
+        traverse(1, 0, treeSize, bucketStart, bucket);
+
+        components = null;
+        forest = null;
+    }
+
+    // With bucket == null counts into counts[node + 1], otherwise places interval at cursor[node]
+    private void forEachNode(int node, int lo, int hi, int from, int to, int interval, int[] cursor, int[] bucket) {
+        if (to <= lo || hi <= from || from >= to) return;
+        if (from <= lo && hi <= to) {
+            if (bucket == null) {
+                cursor[node + 1]++;
+            } else {
+                bucket[cursor[node]++] = interval;
+            }
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        forEachNode(2 * node, lo, mid, from, to, interval, cursor, bucket);
+        forEachNode(2 * node + 1, mid, hi, from, to, interval, cursor, bucket);
+    }
+
+    private void traverse(int node, int lo, int hi, int[] bucketStart, int[] bucket) {
+        if (lo >= queryCount) return;
+        int unionMark = components.getHistorySize();
+        int undoMark = undoSize;
+        for (int i = bucketStart[node]; i < bucketStart[node + 1]; i++) {
+            addToForest(intervalEdges.get(bucket[i]));
+        }
+
+        if (hi - lo == 1) {
+            answers[lo] = queryType[lo] == CONNECTED
+                    ? (components.connected(queryU[lo], queryV[lo]) ? 1 : 0)
+                    : forestWeight;
+        } else {
+            int mid = (lo + hi) >>> 1;
+            traverse(2 * node, lo, mid, bucketStart, bucket);
+            traverse(2 * node + 1, mid, hi, bucketStart, bucket);
+        }
+
+        while (undoSize > undoMark) {
+            undoLast();
+        }
+        components.rollback(unionMark);
+    }
+
+    private void addToForest(Edge edge) {
+        int u = edge.getSource();
+        int v = edge.getDestination();
+        if (u == v) return;
+
+        if (components.union(u, v)) {
+            pushUndo(link(u, v, edge.getWeight()), -1);
+            return;
+        }
+        int heaviest = forest.pathMax(u, v);
+        if (forest.getValue(heaviest) > edge.getWeight()) {
+            unlink(heaviest);
+            pushUndo(link(u, v, edge.getWeight()), heaviest);
+        }
+    }
+
+    private void undoLast() {
+        undoSize--;
+        int added = undoAdded[undoSize];
+        int evicted = undoEvicted[undoSize];
+        unlink(added);
+        forest.reset(added);
+        freeNodes[freeNodeCount++] = added;
+        if (evicted != -1) {
+            relink(evicted);
+        }
+    }
+
+    private int link(int u, int v, int weight) {
+        int node = freeNodes[--freeNodeCount];
+        nodeSource[node - vertices] = u;
+        nodeDestination[node - vertices] = v;
+        forest.setValue(node, weight);
+        relink(node);
+        return node;
+    }
+
+    // An evicted node keeps its value and endpoints so that undo can put it back
+    private void relink(int node) {
+        forest.link(node, nodeSource[node - vertices]);
+        forest.link(nodeDestination[node - vertices], node);
+        forestWeight += forest.getValue(node);
+    }
+
+    private void unlink(int node) {
+        forest.cut(nodeSource[node - vertices], node);
+        forest.cut(node, nodeDestination[node - vertices]);
+        forestWeight -= forest.getValue(node);
+    }
+
+    private void pushUndo(int added, int evicted) {
+        undoAdded[undoSize] = added;
+        undoEvicted[undoSize] = evicted;
+        undoSize++;
+    }
+
+    private void checkVertex(int vertex) {
+        if (vertex < 0 || vertex >= vertices) {
+            throw new IllegalArgumentException("Vertex out of range");
+        }
+    }
+}
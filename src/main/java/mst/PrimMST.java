@@ -0,0 +1,152 @@
+package mst;
+
+import graph.*;
+import util.IndexedDaryHeap;
+import java.util.*;
+
+// Prim's algorithm with two variants: an indexed 4-ary heap, O(E log V), and a
+// plain array scan, O(V^2 + E), which wins on near-complete graphs. AUTO picks the
+// array variant once E log V exceeds V^2. Disconnected graphs yield a spanning forest.
+public class PrimMST implements MSTAlgorithm {
+    public enum Variant { AUTO, HEAP, ARRAY }
+
+    private static final int HEAP_ARITY = 4;
+
+    private final List<List<Edge>> adjacencyList;
+    private final CompactGraph compactGraph;
+    private final int vertices;
+    private final Variant variant;
+
+    private final int[] key;
+    private final int[] parent;
+    private final boolean[] inTree;
+    private final List<Edge> mstEdges;
+    private long totalWeight;
+
+    public PrimMST(Graph graph) {
+        this(graph, Variant.AUTO);
+    }
+
+    public PrimMST(Graph graph, Variant variant) {
+        this(graph.getAdjacencyList(), null, graph.getVertices(), graph.getEdgeCount(), variant);
+    }
+
+    public PrimMST(CompactGraph graph) {
+        this(graph, Variant.AUTO);
+    }
+
+    public PrimMST(CompactGraph graph, Variant variant) {
+        this(null, graph, graph.getVertices(), graph.getEdgeCount(), variant);
+    }
+
+    private PrimMST(List<List<Edge>> adjacencyList, CompactGraph compactGraph,
+                    int vertices, int edges, Variant variant) {
+        this.adjacencyList = adjacencyList;
+        this.compactGraph = compactGraph;
+        this.vertices = vertices;
+        this.variant = variant == Variant.AUTO ? chooseVariant(vertices, edges) : variant;
+        this.key = new int[vertices];
+        this.parent = new int[vertices];
+        this.inTree = new boolean[vertices];
+        this.mstEdges = new ArrayList<>();
+        Arrays.fill(parent, -1);
+
+        if (this.variant == Variant.HEAP) {
+            buildWithHeap();
+        } else {
+            buildWithArray();
+        }
+    }
+
+    static Variant chooseVariant(int vertices, long edges) {
+        int log = 32 - Integer.numberOfLeadingZeros(Math.max(vertices, 1));
+        return edges * log >= (long) vertices * vertices ? Variant.ARRAY : Variant.HEAP;
+    }
+
+    private void buildWithHeap() {
+        IndexedDaryHeap heap = new IndexedDaryHeap(vertices, HEAP_ARITY);
+        for (int root = 0; root < vertices; root++) {
+            if (inTree[root]) continue;
+            heap.offer(root, Integer.MIN_VALUE);
+            while (!heap.isEmpty()) {
+                int u = heap.poll();
+                addToTree(u, heap.getKey(u));
+                relax(u, heap);
+            }
+        }
+    }
+
+    private void buildWithArray() {
+        for (int root = 0; root < vertices; root++) {
+            if (inTree[root]) continue;
+            int u = root;
+            while (u != -1) {
+                addToTree(u, key[u]);
+                relax(u, null);
+
+                // O(V) scan for the cheapest reached vertex outside the tree
+                u = -1;
+                for (int v = 0; v < vertices; v++) {
+                    if (!inTree[v] && parent[v] != -1 && (u == -1 || key[v] < key[u])) {
+                        u = v;
+                    }
+                }
+            }
+        }
+    }
+
+    private void addToTree(int u, int weight) {
+        inTree[u] = true;
+        if (parent[u] != -1) {
+            mstEdges.add(new Edge(parent[u], u, weight));
+            totalWeight += weight;
+        }
+    }
+
+    private void relax(int u, IndexedDaryHeap heap) {
+        if (adjacencyList != null) {
+            for (Edge edge : adjacencyList.get(u)) {
+                relaxEdge(u, edge.getDestination(), edge.getWeight(), heap);
+            }
+        } else {
+            for (int slot = compactGraph.adjacencyStart(u); slot < compactGraph.adjacencyEnd(u); slot++) {
+                relaxEdge(u, compactGraph.getTarget(slot), compactGraph.getAdjacentWeight(slot), heap);
+            }
+        }
+    }
+
+    private void relaxEdge(int u, int v, int weight, IndexedDaryHeap heap) {
+        if (inTree[v]) return;
+        if (heap != null) {
+            if (heap.offer(v, weight)) parent[v] = u;
+        } else if (parent[v] == -1 || weight < key[v]) {
+            key[v] = weight;
+            parent[v] = u;
+        }
+    }
+
+    public Variant getVariant() { return variant; }
+
+    @Override
+    public List<Edge> getMSTEdges() { return new ArrayList<>(mstEdges); }
+
+    @Override
+    public long getTotalWeight() { return totalWeight; }
+
+    @Override
+    public void displayMST() {
+        System.out.println("=== MINIMUM SPANNING TREE (Prim, " + variant + ") ===");
+        for (int i = 0; i < mstEdges.size(); i++) {
+            Edge edge = mstEdges.get(i);
+            System.out.println((i + 1) + ". " + edge.getSource() + " -- " +
+                    edge.getDestination() + " (weight: " + edge.getWeight() + ")");
+        }
+        System.out.println("Total Weight: " + totalWeight);
+        System.out.println("Edges: " + mstEdges.size());
+    }
+
+    @Override
+    public boolean isValid(int vertices) {
+        return mstEdges.size() == vertices - 1;
+    }
+}
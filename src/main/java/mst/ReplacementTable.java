@@ -0,0 +1,174 @@
+package mst;
+
+import graph.*;
+import java.util.*;
+
+// Best replacement for every MST edge at once. Non-tree edges are processed in
+// (weight, id) order; each one covers the still-uncovered tree edges on its tree
+// path, and a path-compressed "skip" array jumps over edges that are already covered,
+// so the whole table costs O(E log E + E α(V)).
+public class ReplacementTable {
+    private final CompactGraph graph;
+    private final int[] treeEdgeIds;
+    private final boolean[] inTree;
+    private final int[] replacementOf;
+    private final long totalWeight;
+
+    public ReplacementTable(Graph graph, List<Edge> mstEdges) {
+        this(CompactGraph.fromGraph(graph), mstEdges);
+    }
+
+    public ReplacementTable(CompactGraph graph, List<Edge> mstEdges) {
+        this.graph = graph;
+        this.inTree = new boolean[graph.getEdgeCount()];
+        this.treeEdgeIds = new int[mstEdges.size()];
+        this.replacementOf = new int[graph.getEdgeCount()];
+        Arrays.fill(replacementOf, -1);
+
+        int[] ids = graph.findEdgeIds(mstEdges);
+        long weight = 0;
+        for (int i = 0; i < ids.length; i++) {
+            inTree[ids[i]] = true;
+            treeEdgeIds[i] = ids[i];
+            weight += graph.getWeight(ids[i]);
+        }
+        this.totalWeight = weight;
+
+        int vertices = graph.getVertices();
+        int[] parent = new int[vertices];
+        int[] parentEdge = new int[vertices];
+        int[] depth = new int[vertices];
+        int[] root = new int[vertices];
+        rootForest(parent, parentEdge, depth, root);
+
+        long[] candidates = new long[graph.getEdgeCount() - treeEdgeIds.length];
+        int count = 0;
+        for (int edgeId = 0; edgeId < graph.getEdgeCount(); edgeId++) {
+            if (!inTree[edgeId]) {
+                candidates[count++] = ((long) graph.getWeight(edgeId) << 32) | edgeId;
+            }
+        }
+        Arrays.sort(candidates);
+
+        // skip[v] leads to the nearest ancestor-or-self whose parent edge is still uncovered
+        int[] skip = new int[vertices];
+        for (int v = 0; v < vertices; v++) {
+            skip[v] = v;
+        }
+
+        for (long key : candidates) {
+            int edgeId = (int) key;
+            int a = graph.getSource(edgeId);
+            int b = graph.getDestination(edgeId);
+            if (root[a] != root[b]) continue;
+
+            a = find(skip, a);
+            b = find(skip, b);
+            while (a != b) {
+                if (depth[a] < depth[b]) {
+                    int tmp = a;
+                    a = b;
+                    b = tmp;
+                }
+                replacementOf[parentEdge[a]] = edgeId;
+                skip[a] = parent[a];
+                a = find(skip, a);
+            }
+        }
+    }
+
+    private void rootForest(int[] parent, int[] parentEdge, int[] depth, int[] root) {
+        int vertices = graph.getVertices();
+        boolean[] visited = new boolean[vertices];
+        int[] queue = new int[vertices];
+
+        for (int start = 0; start < vertices; start++) {
+            if (visited[start]) continue;
+            visited[start] = true;
+            parent[start] = start;
+            parentEdge[start] = -1;
+            depth[start] = 0;
+            root[start] = start;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = start;
+
+            while (head < tail) {
+                int vertex = queue[head++];
+                for (int slot = graph.adjacencyStart(vertex); slot < graph.adjacencyEnd(vertex); slot++) {
+                    int edgeId = graph.getAdjacentEdgeId(slot);
+                    int next = graph.getTarget(slot);
+                    if (inTree[edgeId] && !visited[next]) {
+                        visited[next] = true;
+                        parent[next] = vertex;
+                        parentEdge[next] = edgeId;
+                        depth[next] = depth[vertex] + 1;
+                        root[next] = start;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+        }
+    }
+
+    private static int find(int[] skip, int x) {
+        while (skip[x] != x) {
+            skip[x] = skip[skip[x]];
+            x = skip[x];
+        }
+        return x;
+    }
+
+    public long getTotalWeight() { return totalWeight; }
+
+    public List<Edge> getTreeEdges() {
+        List<Edge> edges = new ArrayList<>(treeEdgeIds.length);
+        for (int edgeId : treeEdgeIds) {
+            edges.add(graph.getEdge(edgeId));
+        }
+        return edges;
+    }
+
+    // Replacement edge id for a tree edge id, or -1 if the tree edge is a bridge
+    public int getReplacementId(int treeEdgeId) {
+        return replacementOf[treeEdgeId];
+    }
+
+    public Edge getReplacement(Edge treeEdge) {
+        int replacementId = replacementOf[treeEdgeIdOf(treeEdge)];
+        return replacementId == -1 ? null : graph.getEdge(replacementId);
+    }
+
+    public long getNewTotalWeight(Edge treeEdge) {
+        int treeEdgeId = treeEdgeIdOf(treeEdge);
+        int replacementId = replacementOf[treeEdgeId];
+        long newWeight = totalWeight - graph.getWeight(treeEdgeId);
+        return replacementId == -1 ? newWeight : newWeight + graph.getWeight(replacementId);
+    }
+
+    private int treeEdgeIdOf(Edge edge) {
+        int u = edge.getSource();
+        for (int slot = graph.adjacencyStart(u); slot < graph.adjacencyEnd(u); slot++) {
+            int edgeId = graph.getAdjacentEdgeId(slot);
+            if (graph.getTarget(slot) == edge.getDestination() &&
+                    graph.getAdjacentWeight(slot) == edge.getWeight() && inTree[edgeId]) {
+                return edgeId;
+            }
+        }
+        throw new IllegalArgumentException("Edge not found in MST: " + edge);
+    }
+
+    public void displayTable() {
+        System.out.println("=== REPLACEMENT TABLE ===");
+        for (int i = 0; i < treeEdgeIds.length; i++) {
+            int edgeId = treeEdgeIds[i];
+            int replacementId = replacementOf[edgeId];
+            String replacement = replacementId == -1 ? "None (bridge)" :
+                    graph.getSource(replacementId) + " -- " + graph.getDestination(replacementId) +
+                            " (weight: " + graph.getWeight(replacementId) + ")";
+            System.out.println((i + 1) + ". " + graph.getSource(edgeId) + " -- " +
+                    graph.getDestination(edgeId) + " (weight: " + graph.getWeight(edgeId) + ") -> " +
+                    replacement);
+        }
+    }
+}
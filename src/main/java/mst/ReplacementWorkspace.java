@@ -0,0 +1,39 @@
+package mst;
+
+// Scratch buffers for MSTReplacer: the tree CSR and DFS stack used to rebuild the
+// Euler tour, and the component labelling arrays. Buffers only grow, so once they fit
+// the graph, repeated replacements reuse them without allocating. A workspace may be
+// shared by many replacers (e.g. one per repetition of a sweep) but is confined to the
+// thread that first used it.
+public final class ReplacementWorkspace {
+    private Thread owner;
+
+    int[] tourOffsets = new int[0];
+    int[] tourAdjacentIds = new int[0];
+    int[] tourCursor = new int[0];
+    int[] stack = new int[0];
+    int[] labelOfKey = new int[0];
+
+    // Makes every buffer fit a forest of the given size
+    void prepare(int vertices, int treeEdges) {
+        Thread current = Thread.currentThread();
+        if (owner == null) {
+            owner = current;
+        } else if (owner != current) {
+            throw new IllegalStateException("Workspace is confined to thread " + owner.getName());
+        }
+        if (tourOffsets.length < vertices + 1) {
+            tourOffsets = new int[vertices + 1];
+            tourCursor = new int[vertices];
+            stack = new int[vertices];
+            labelOfKey = new int[vertices + 1];
+        }
+        if (tourAdjacentIds.length < 2 * treeEdges) {
+            tourAdjacentIds = new int[Math.max(2 * treeEdges, tourAdjacentIds.length * 2)];
+        }
+    }
+
+    public long getMemoryFootprintBytes() {
+        return 4L * (tourOffsets.length + tourAdjacentIds.length + tourCursor.length + stack.length + labelOfKey.length);
+    }
+}
@@ -0,0 +1,138 @@
+package mst;
+
+import graph.*;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.*;
+
+// Semi-streaming minimum spanning forest: edges arrive one at a time and only the
+// current forest is kept, in a link-cut tree whose extra nodes [V, 2V - 1) carry the
+// tree edge weights. An edge that closes a cycle evicts the heaviest edge on it, so
+// memory is O(V) no matter how many edges pass through, and each edge costs O(log V).
+public class StreamingMST {
+    private final int vertices;
+    private final LinkCutTree tree;
+    private final int[] treeSource;
+    private final int[] treeDestination;
+    private final boolean[] inUse;
+    private final int[] freeTreeNodes; // stack of unused edge nodes
+    private int freeTreeNodeCount;
+
+    private int treeEdgeCount;
+    private long totalWeight;
+    private long edgesProcessed;
+
+    public StreamingMST(int vertices) {
+        this.vertices = vertices;
+        this.tree = new LinkCutTree(2 * vertices);
+        this.treeSource = new int[vertices];
+        this.treeDestination = new int[vertices];
+        this.inUse = new boolean[vertices];
+        this.freeTreeNodes = new int[Math.max(0, vertices - 1)];
+        for (int node = 2 * vertices - 2; node >= vertices; node--) {
+            freeTreeNodes[freeTreeNodeCount++] = node;
+        }
+    }
+
+    public void accept(Edge edge) {
+        accept(edge.getSource(), edge.getDestination(), edge.getWeight());
+    }
+
+    public void accept(int source, int destination, int weight) {
+        if (source < 0 || source >= vertices || destination < 0 || destination >= vertices) {
+            throw new IllegalArgumentException("Vertex out of range");
+        }
+        edgesProcessed++;
+        if (source == destination) return;
+
+        if (!tree.connected(source, destination)) {
+            link(source, destination, weight);
+            return;
+        }
+        int heaviest = tree.pathMax(source, destination);
+        if (tree.getValue(heaviest) > weight) {
+            cut(heaviest);
+            link(source, destination, weight);
+        }
+    }
+
+    public void acceptAll(Iterator<Edge> edges) {
+        while (edges.hasNext()) {
+            accept(edges.next());
+        }
+    }
+
+    public void acceptAll(Spliterator<Edge> edges) {
+        edges.forEachRemaining(this::accept);
+    }
+
+    // Little-endian (source, destination, weight) int records, the edge layout of GraphFile
+    public void acceptAll(InputStream in) throws IOException {
+        ReadableByteChannel channel = Channels.newChannel(in);
+        ByteBuffer buffer = ByteBuffer.allocate(12 << 12).order(ByteOrder.LITTLE_ENDIAN);
+        while (channel.read(buffer) >= 0) {
+            buffer.flip();
+            while (buffer.remaining() >= 12) {
+                accept(buffer.getInt(), buffer.getInt(), buffer.getInt());
+            }
+            buffer.compact();
+        }
+        if (buffer.position() != 0) {
+            throw new EOFException("Truncated edge record at end of stream");
+        }
+    }
+
+    private void link(int source, int destination, int weight) {
+        int node = freeTreeNodes[--freeTreeNodeCount];
+        treeSource[node - vertices] = source;
+        treeDestination[node - vertices] = destination;
+        inUse[node - vertices] = true;
+        tree.setValue(node, weight);
+        tree.link(node, source);
+        tree.link(destination, node);
+        totalWeight += weight;
+        treeEdgeCount++;
+    }
+
+    private void cut(int node) {
+        totalWeight -= tree.getValue(node);
+        tree.cut(treeSource[node - vertices], node);
+        tree.cut(node, treeDestination[node - vertices]);
+        tree.reset(node);
+        inUse[node - vertices] = false;
+        freeTreeNodes[freeTreeNodeCount++] = node;
+        treeEdgeCount--;
+    }
+
+    public boolean connected(int u, int v) {
+        if (u < 0 || u >= vertices || v < 0 || v >= vertices) {
+            throw new IllegalArgumentException("Vertex out of range");
+        }
+        return tree.connected(u, v);
+    }
+
+    // Snapshot of the forest so far
+    public List<Edge> getForestEdges() {
+        List<Edge> edges = new ArrayList<>(treeEdgeCount);
+        for (int i = 0; i < vertices - 1; i++) {
+            if (inUse[i]) {
+                edges.add(new Edge(treeSource[i], treeDestination[i], tree.getValue(vertices + i)));
+            }
+        }
+        return edges;
+    }
+
+    public long getTotalWeight() { return totalWeight; }
+    public long getEdgesProcessed() { return edgesProcessed; }
+    public int getTreeEdgeCount() { return treeEdgeCount; }
+    public int getVertices() { return vertices; }
+
+    public boolean isSpanningTree() {
+        return treeEdgeCount == vertices - 1;
+    }
+}
@@ -1,43 +1,80 @@
 package util;
 
+import graph.CompactGraph;
 import graph.Edge;
+import graph.UnionFind;
 import java.util.*;
 
 public class ComponentFinder {
 
     public static List<Set<Integer>> findComponents(int vertices, List<Edge> edges) {
-        List<List<Integer>> adjacencyList = new ArrayList<>();
-        for (int i = 0; i < vertices; i++) {
-            adjacencyList.add(new ArrayList<>());
-        }
+        return labelComponents(vertices, edges).toSets();
+    }
+
+    public static List<Set<Integer>> findComponents(CompactGraph graph) {
+        return labelComponents(graph).toSets();
+    }
+
+    // Union-find pass over the edge list; no adjacency lists, no recursion, no boxing
+    public static ComponentLabels labelComponents(int vertices, List<Edge> edges) {
+        return labelComponents(vertices, edges, null);
+    }
 
+    // Same pass, reporting union-find work to observer (null for none)
+    public static ComponentLabels labelComponents(int vertices, List<Edge> edges, UnionFind.Observer observer) {
+        UnionFind uf = new UnionFind(vertices);
+        uf.setListener(observer);
         for (Edge edge : edges) {
-            adjacencyList.get(edge.getSource()).add(edge.getDestination());
-            adjacencyList.get(edge.getDestination()).add(edge.getSource());
+            uf.union(edge.getSource(), edge.getDestination());
         }
+        return labelsFrom(uf, vertices);
+    }
 
-        boolean[] visited = new boolean[vertices];
-        List<Set<Integer>> components = new ArrayList<>();
+    // Iterative DFS over the CSR adjacency with an explicit int stack
+    public static ComponentLabels labelComponents(CompactGraph graph) {
+        int vertices = graph.getVertices();
+        int[] componentOf = new int[vertices];
+        Arrays.fill(componentOf, -1);
+        int[] stack = new int[vertices];
+        int[] sizes = new int[vertices];
+        int count = 0;
 
         for (int i = 0; i < vertices; i++) {
-            if (!visited[i]) {
-                Set<Integer> component = new HashSet<>();
-                dfs(i, adjacencyList, visited, component);
-                components.add(component);
+            if (componentOf[i] != -1) continue;
+            int top = 0;
+            stack[top++] = i;
+            componentOf[i] = count;
+            while (top > 0) {
+                int vertex = stack[--top];
+                sizes[count]++;
+                for (int slot = graph.adjacencyStart(vertex); slot < graph.adjacencyEnd(vertex); slot++) {
+                    int neighbor = graph.getTarget(slot);
+                    if (componentOf[neighbor] == -1) {
+                        componentOf[neighbor] = count;
+                        stack[top++] = neighbor;
+                    }
+                }
             }
+            count++;
         }
-        return components;
+        return new ComponentLabels(componentOf, Arrays.copyOf(sizes, count));
     }
 
-    private static void dfs(int vertex, List<List<Integer>> adjacencyList,
-                            boolean[] visited, Set<Integer> component) {
-        visited[vertex] = true;
-        component.add(vertex);
-        for (int neighbor : adjacencyList.get(vertex)) {
-            if (!visited[neighbor]) {
-                dfs(neighbor, adjacencyList, visited, component);
+    static ComponentLabels labelsFrom(UnionFind uf, int vertices) {
+        int[] labelOfRoot = new int[vertices];
+        Arrays.fill(labelOfRoot, -1);
+        int[] componentOf = new int[vertices];
+        int[] sizes = new int[vertices];
+        int count = 0;
+        for (int v = 0; v < vertices; v++) {
+            int root = uf.find(v);
+            if (labelOfRoot[root] == -1) {
+                labelOfRoot[root] = count++;
             }
+            componentOf[v] = labelOfRoot[root];
+            sizes[componentOf[v]]++;
         }
+        return new ComponentLabels(componentOf, Arrays.copyOf(sizes, count));
     }
 
     public static void displayComponents(List<Set<Integer>> components) {
@@ -57,7 +94,15 @@ public class ComponentFinder {
         }
     }
 
+    public static void displayComponents(ComponentLabels labels) {
+        displayComponents(labels.toSets());
+    }
+
     public static boolean isConnected(int vertices, List<Edge> edges) {
-        return findComponents(vertices, edges).size() == 1;
+        return labelComponents(vertices, edges).getComponentCount() == 1;
+    }
+
+    public static boolean isConnected(CompactGraph graph) {
+        return labelComponents(graph).getComponentCount() == 1;
     }
 }
\ No newline at end of file
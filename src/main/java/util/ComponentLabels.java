@@ -0,0 +1,38 @@
+package util;
+
+import java.util.*;
+
+// Connected components as primitive labels: componentOf[v] is in [0, count), and
+// components are numbered in order of their smallest vertex.
+public class ComponentLabels {
+    private final int[] componentOf;
+    private final int[] sizes;
+
+    public ComponentLabels(int[] componentOf, int[] sizes) {
+        this.componentOf = componentOf;
+        this.sizes = sizes;
+    }
+
+    public int getComponentOf(int vertex) { return componentOf[vertex]; }
+    public int getComponentCount() { return sizes.length; }
+    public int getSize(int component) { return sizes[component]; }
+    public int getVertices() { return componentOf.length; }
+
+    public boolean sameComponent(int u, int v) {
+        return componentOf[u] == componentOf[v];
+    }
+
+    public int[] getComponentArray() { return componentOf.clone(); }
+    public int[] getSizes() { return sizes.clone(); }
+
+    public List<Set<Integer>> toSets() {
+        List<Set<Integer>> components = new ArrayList<>(sizes.length);
+        for (int size : sizes) {
+            components.add(new HashSet<>(size * 2));
+        }
+        for (int v = 0; v < componentOf.length; v++) {
+            components.get(componentOf[v]).add(v);
+        }
+        return components;
+    }
+}
@@ -0,0 +1,177 @@
+package util;
+
+import java.util.Arrays;
+
+// Orders edge ids by (weight, id) without comparing Edge objects. RADIX is an LSD
+// radix sort over 8-bit digits of the weight (digits shared by all keys are skipped),
+// COUNTING is a single counting pass when the weight range is small. Both are stable,
+// so equal weights keep ascending ids, exactly like the comparison sorts.
+public class EdgeSorter {
+    public enum Mode { PACKED, RADIX, COUNTING, AUTO }
+
+    static final int MAX_COUNTING_RANGE = 1 << 24;
+
+    public static int[] sortedOrder(int[] weights, Mode mode) {
+        if (mode == Mode.AUTO) {
+            mode = chooseMode(weights);
+        }
+        switch (mode) {
+            case PACKED: return packedSort(weights);
+            case COUNTING: return countingSort(weights);
+            default: return radixSort(weights);
+        }
+    }
+
+    public static Mode chooseMode(int[] weights) {
+        if (weights.length < 256) return Mode.PACKED;
+        long range = weightRange(weights);
+        return range <= Math.max(1024, weights.length) ? Mode.COUNTING : Mode.RADIX;
+    }
+
+    static int[] packedSort(int[] weights) {
+        long[] keys = new long[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            keys[i] = ((long) weights[i] << 32) | i;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[weights.length];
+        for (int i = 0; i < keys.length; i++) {
+            order[i] = (int) keys[i];
+        }
+        return order;
+    }
+
+    // Falls back to radix sort when the range would need a huge count array
+    static int[] countingSort(int[] weights) {
+        if (weights.length == 0) return new int[0];
+        long range = weightRange(weights);
+        if (range > MAX_COUNTING_RANGE) return radixSort(weights);
+
+        int min = Integer.MAX_VALUE;
+        for (int weight : weights) min = Math.min(min, weight);
+        int[] counts = new int[(int) range + 1];
+        for (int weight : weights) {
+            counts[weight - min + 1]++;
+        }
+        for (int i = 1; i < counts.length; i++) {
+            counts[i] += counts[i - 1];
+        }
+        int[] order = new int[weights.length];
+        for (int id = 0; id < weights.length; id++) {
+            order[counts[weights[id] - min]++] = id;
+        }
+        return order;
+    }
+
+    static int[] radixSort(int[] weights) {
+        int n = weights.length;
+        int[] keys = new int[n];
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = weights[i] ^ Integer.MIN_VALUE; // signed order as unsigned bits
+            order[i] = i;
+        }
+        int[] keyBuffer = new int[n];
+        int[] orderBuffer = new int[n];
+        int[] counts = new int[257];
+
+        for (int shift = 0; shift < 32; shift += 8) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                counts[((keys[i] >>> shift) & 0xFF) + 1]++;
+            }
+            if (isTrivialDigit(counts, n)) continue;
+            for (int i = 1; i < counts.length; i++) {
+                counts[i] += counts[i - 1];
+            }
+            for (int i = 0; i < n; i++) {
+                int slot = counts[(keys[i] >>> shift) & 0xFF]++;
+                keyBuffer[slot] = keys[i];
+                orderBuffer[slot] = order[i];
+            }
+            int[] tmp = keys;
+            keys = keyBuffer;
+            keyBuffer = tmp;
+            tmp = order;
+            order = orderBuffer;
+            orderBuffer = tmp;
+        }
+        return order;
+    }
+
+    // Ids of 64-bit weights in (weight, id) order: LSD radix sort over eight 8-bit digits
+    public static int[] sortedOrder(long[] weights) {
+        long[] keys = new long[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            keys[i] = weights[i] ^ Long.MIN_VALUE; // signed order as unsigned bits
+        }
+        return radixSortKeys(keys);
+    }
+
+    // Ids of double weights in (weight, id) order; -0.0 sorts before 0.0, NaN is rejected
+    public static int[] sortedOrder(double[] weights) {
+        long[] keys = new long[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            if (Double.isNaN(weights[i])) {
+                throw new IllegalArgumentException("NaN weight at edge " + i);
+            }
+            long bits = Double.doubleToRawLongBits(weights[i]);
+            // Negative values: flip all bits; positive: flip the sign bit. Then unsigned order = numeric order
+            keys[i] = bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+        }
+        return radixSortKeys(keys);
+    }
+
+    // Stable LSD radix sort of unsigned 64-bit keys, returning the permutation
+    private static int[] radixSortKeys(long[] keys) {
+        int n = keys.length;
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        long[] keyBuffer = new long[n];
+        int[] orderBuffer = new int[n];
+        int[] counts = new int[257];
+
+        for (int shift = 0; shift < 64; shift += 8) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                counts[(int) ((keys[i] >>> shift) & 0xFF) + 1]++;
+            }
+            if (isTrivialDigit(counts, n)) continue;
+            for (int i = 1; i < counts.length; i++) {
+                counts[i] += counts[i - 1];
+            }
+            for (int i = 0; i < n; i++) {
+                int slot = counts[(int) ((keys[i] >>> shift) & 0xFF)]++;
+                keyBuffer[slot] = keys[i];
+                orderBuffer[slot] = order[i];
+            }
+            long[] tmpKeys = keys;
+            keys = keyBuffer;
+            keyBuffer = tmpKeys;
+            int[] tmp = order;
+            order = orderBuffer;
+            orderBuffer = tmp;
+        }
+        return order;
+    }
+
+    private static boolean isTrivialDigit(int[] counts, int n) {
+        for (int i = 1; i < counts.length; i++) {
+            if (counts[i] == n) return true;
+            if (counts[i] != 0) return false;
+        }
+        return true;
+    }
+
+    private static long weightRange(int[] weights) {
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int weight : weights) {
+            min = Math.min(min, weight);
+            max = Math.max(max, weight);
+        }
+        return weights.length == 0 ? 0 : (long) max - min + 1;
+    }
+}
@@ -0,0 +1,108 @@
+package util;
+
+import java.util.Arrays;
+
+// Indexed min-heap over items [0, capacity) with int keys and decrease-key.
+// A d-ary layout keeps the tree shallow, which makes decrease-key (sift up)
+// cheaper and is the usual choice for Prim/Dijkstra on dense graphs.
+public class IndexedDaryHeap {
+    private final int arity;
+    private final int[] heap;
+    private final int[] position;
+    private final int[] keys;
+    private int size;
+
+    public IndexedDaryHeap(int capacity, int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2");
+        }
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.keys = new int[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    public boolean isEmpty() { return size == 0; }
+    public int size() { return size; }
+    public boolean contains(int item) { return position[item] != -1; }
+    public int getKey(int item) { return keys[item]; }
+
+    public int peekKey() {
+        return keys[heap[0]];
+    }
+
+    // Inserts the item, or lowers its key if the new key is smaller; returns true if changed
+    public boolean offer(int item, int key) {
+        int index = position[item];
+        if (index == -1) {
+            index = size++;
+            heap[index] = item;
+            position[item] = index;
+            keys[item] = key;
+            siftUp(index);
+            return true;
+        }
+        if (key < keys[item]) {
+            keys[item] = key;
+            siftUp(index);
+            return true;
+        }
+        return false;
+    }
+
+    public int poll() {
+        int top = heap[0];
+        position[top] = -1;
+        size--;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            position[last] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int index) {
+        int item = heap[index];
+        int key = keys[item];
+        while (index > 0) {
+            int parentIndex = (index - 1) / arity;
+            int parent = heap[parentIndex];
+            if (keys[parent] <= key) break;
+            heap[index] = parent;
+            position[parent] = index;
+            index = parentIndex;
+        }
+        heap[index] = item;
+        position[item] = index;
+    }
+
+    private void siftDown(int index) {
+        int item = heap[index];
+        int key = keys[item];
+        while (true) {
+            int firstChild = index * arity + 1;
+            if (firstChild >= size) break;
+            int lastChild = Math.min(firstChild + arity, size);
+            int best = firstChild;
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (keys[heap[child]] < keys[heap[best]]) best = child;
+            }
+            if (keys[heap[best]] >= key) break;
+            heap[index] = heap[best];
+            position[heap[index]] = index;
+            index = best;
+        }
+        heap[index] = item;
+        position[item] = index;
+    }
+}
@@ -0,0 +1,94 @@
+package util;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+// Immutable vector as a 32-way trie. set and append copy only the O(log32 n) nodes
+// on the path to the slot and share everything else with the previous version, so
+// old versions stay valid and can be read by other threads without locking.
+public final class PersistentVector<E> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(new Object[WIDTH], 0, 0);
+
+    private final Object[] root;
+    private final int size;
+    private final int shift;
+
+    private PersistentVector(Object[] root, int size, int shift) {
+        this.root = root;
+        this.size = size;
+        this.shift = shift;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    public static <E> PersistentVector<E> of(Iterable<? extends E> values) {
+        PersistentVector<E> vector = empty();
+        for (E value : values) {
+            vector = vector.append(value);
+        }
+        return vector;
+    }
+
+    public int size() { return size; }
+
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " of " + size);
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return (E) node[index & MASK];
+    }
+
+    public PersistentVector<E> set(int index, E value) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " of " + size);
+        }
+        return new PersistentVector<>(setIn(root, shift, index, value), size, shift);
+    }
+
+    public PersistentVector<E> append(E value) {
+        if (size == (1 << (shift + BITS))) {
+            // The trie is full: grow a level, the old root becomes the first child
+            Object[] newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            return new PersistentVector<>(setIn(newRoot, shift + BITS, size, value), size + 1, shift + BITS);
+        }
+        return new PersistentVector<>(setIn(root, shift, size, value), size + 1, shift);
+    }
+
+    private static Object[] setIn(Object[] node, int level, int index, Object value) {
+        Object[] copy = node == null ? new Object[WIDTH] : Arrays.copyOf(node, WIDTH);
+        if (level == 0) {
+            copy[index & MASK] = value;
+        } else {
+            int child = (index >>> level) & MASK;
+            copy[child] = setIn((Object[]) copy[child], level - BITS, index, value);
+        }
+        return copy;
+    }
+
+    // Walks the leaves in order, descending from the root once per 32 elements
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        for (int start = 0; start < size; start += WIDTH) {
+            Object[] leaf = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                leaf = (Object[]) leaf[(start >>> level) & MASK];
+            }
+            int end = Math.min(WIDTH, size - start);
+            for (int i = 0; i < end; i++) {
+                action.accept((E) leaf[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+import graph.CompactGraph;
+import graph.Edge;
+import graph.Graph;
+import mst.BoruvkaMST;
+import mst.KruskalMST;
+import mst.MSTAlgorithm;
+import mst.MSTEngine;
+import mst.MSTReplacer;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+class TestBoruvkaMST {
+
+    @Test
+    void testSampleGraph() {
+        Graph graph = Graph.createSampleGraph();
+        BoruvkaMST mst = new BoruvkaMST(graph);
+
+        assertEquals(9, mst.getTotalWeight());
+        assertTrue(mst.isValid(graph.getVertices()));
+        assertTrue(mst.getRounds() <= 3);
+    }
+
+    @Test
+    void testMatchesKruskalWithTies() {
+        Random random = new Random(5);
+        List<Edge> edges = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            edges.add(new Edge(random.nextInt(500), random.nextInt(500), random.nextInt(10)));
+        }
+        CompactGraph graph = CompactGraph.fromEdges(500, edges);
+
+        MSTAlgorithm expected = new KruskalMST(graph);
+        MSTAlgorithm actual = new BoruvkaMST(graph);
+        assertEquals(expected.getTotalWeight(), actual.getTotalWeight());
+        assertEquals(new HashSet<>(expected.getMSTEdges()),
+                new HashSet<>(actual.getMSTEdges()));
+    }
+
+    @Test
+    void testEngineSelection() {
+        Graph graph = Graph.createSampleGraph();
+        for (MSTEngine engine : MSTEngine.values()) {
+            assertEquals(9, engine.build(graph).getTotalWeight());
+        }
+        assertEquals(MSTEngine.FILTER_KRUSKAL, MSTEngine.fromName("filter-kruskal"));
+        assertThrows(IllegalArgumentException.class, () -> MSTEngine.fromName("unknown"));
+
+        MSTReplacer replacer = new MSTReplacer(graph, MSTEngine.BORUVKA);
+        assertEquals(new Edge(2, 3, 4), replacer.removeAndReplace(new Edge(1, 3, 2)));
+    }
+}
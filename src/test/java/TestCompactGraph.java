@@ -0,0 +1,50 @@
+import graph.CompactGraph;
+import graph.Edge;
+import graph.Graph;
+import mst.KruskalMST;
+import mst.MSTReplacer;
+import util.ComponentFinder;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestCompactGraph {
+
+    @Test
+    void testAdjacencyLayout() {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 10);
+        graph.addEdge(1, 2, 20);
+        CompactGraph compact = CompactGraph.fromGraph(graph);
+
+        assertEquals(2, compact.getEdgeCount());
+        assertEquals(1, compact.degree(0));
+        assertEquals(2, compact.degree(1));
+        assertEquals(1, compact.findEdgeId(2, 1, 20));
+        assertEquals(-1, compact.findEdgeId(0, 2, 10));
+        assertEquals(new Edge(1, 2, 20), compact.getEdge(1));
+    }
+
+    @Test
+    void testAlgorithmsMatchListGraph() {
+        Graph graph = Graph.createSampleGraph();
+        CompactGraph compact = CompactGraph.fromGraph(graph);
+
+        KruskalMST listMST = new KruskalMST(graph);
+        KruskalMST compactMST = new KruskalMST(compact);
+        assertEquals(listMST.getTotalWeight(), compactMST.getTotalWeight());
+        assertEquals(listMST.getMSTEdges(), compactMST.getMSTEdges());
+
+        assertTrue(ComponentFinder.isConnected(compact));
+
+        MSTReplacer replacer = new MSTReplacer(compact, compactMST.getMSTEdges());
+        Edge replacement = replacer.removeAndReplace(new Edge(1, 3, 2));
+        assertEquals(new Edge(2, 3, 4), replacement);
+    }
+
+    @Test
+    void testMemoryFootprint() {
+        CompactGraph compact = CompactGraph.fromGraph(Graph.createSampleGraph());
+        // 9 edges * 9 ints (edge arrays + both adjacency slots) + 7 offsets
+        assertEquals((9 * 9 + 7) * 4, compact.getMemoryFootprintBytes());
+    }
+}
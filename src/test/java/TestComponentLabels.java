@@ -0,0 +1,37 @@
+import graph.CompactGraph;
+import graph.Edge;
+import util.ComponentFinder;
+import util.ComponentLabels;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class TestComponentLabels {
+
+    @Test
+    void testLabelsAndSizes() {
+        List<Edge> edges = List.of(new Edge(0, 1, 1), new Edge(1, 2, 1), new Edge(3, 4, 1));
+        ComponentLabels labels = ComponentFinder.labelComponents(6, edges);
+
+        assertEquals(3, labels.getComponentCount());
+        assertTrue(labels.sameComponent(0, 2));
+        assertFalse(labels.sameComponent(2, 3));
+        assertEquals(0, labels.getComponentOf(1));
+        assertEquals(2, labels.getComponentOf(5));
+        assertArrayEquals(new int[]{3, 2, 1}, labels.getSizes());
+    }
+
+    @Test
+    void testLongPathDoesNotOverflowStack() {
+        int vertices = 1_000_000;
+        List<Edge> path = new ArrayList<>(vertices);
+        for (int v = 1; v < vertices; v++) {
+            path.add(new Edge(v - 1, v, 1));
+        }
+
+        assertEquals(1, ComponentFinder.findComponents(vertices, path).size());
+        assertEquals(vertices, ComponentFinder.labelComponents(CompactGraph.fromEdges(vertices, path)).getSize(0));
+    }
+}
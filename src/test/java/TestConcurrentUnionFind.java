@@ -0,0 +1,47 @@
+import graph.ConcurrentUnionFind;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class TestConcurrentUnionFind {
+
+    @Test
+    void testSequentialOperations() {
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(5);
+        assertTrue(uf.union(0, 1));
+        assertFalse(uf.union(1, 0));
+        assertTrue(uf.union(1, 2));
+        assertTrue(uf.connected(0, 2));
+        assertFalse(uf.connected(0, 3));
+        assertEquals(3, uf.getComponentCount());
+    }
+
+    @Test
+    void testConcurrentUnionsCountEachMergeOnce() throws InterruptedException {
+        int n = 200_000;
+        int threads = 4;
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(n);
+        AtomicInteger successfulUnions = new AtomicInteger();
+
+        // Every thread unions the whole path, so most attempts collide
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            workers.add(new Thread(() -> {
+                for (int i = 0; i < n - 1; i++) {
+                    int v = (i * (offset + 1)) % (n - 1);
+                    if (uf.union(v, v + 1)) successfulUnions.incrementAndGet();
+                }
+            }));
+        }
+        for (Thread worker : workers) worker.start();
+        for (Thread worker : workers) worker.join();
+
+        assertEquals(n - 1, successfulUnions.get());
+        assertEquals(1, uf.getComponentCount());
+        assertTrue(uf.connected(0, n - 1));
+    }
+}
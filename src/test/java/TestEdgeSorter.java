@@ -0,0 +1,57 @@
+import graph.CompactGraph;
+import graph.Edge;
+import graph.Graph;
+import mst.KruskalMST;
+import util.EdgeSorter;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Random;
+
+class TestEdgeSorter {
+
+    @Test
+    void testAllModesGiveStableWeightOrder() {
+        Random random = new Random(13);
+        for (int bound : new int[]{10, 100_000, Integer.MAX_VALUE}) {
+            int[] weights = new int[5000];
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = random.nextInt(bound) - bound / 2;
+            }
+            int[] expected = EdgeSorter.sortedOrder(weights, EdgeSorter.Mode.PACKED);
+            for (EdgeSorter.Mode mode : EdgeSorter.Mode.values()) {
+                assertArrayEquals(expected, EdgeSorter.sortedOrder(weights, mode), mode + " / " + bound);
+            }
+            for (int i = 1; i < expected.length; i++) {
+                int previous = weights[expected[i - 1]];
+                int current = weights[expected[i]];
+                assertTrue(previous < current || (previous == current && expected[i - 1] < expected[i]));
+            }
+        }
+    }
+
+    @Test
+    void testAutoChoosesCountingForSmallRanges() {
+        assertEquals(EdgeSorter.Mode.COUNTING, EdgeSorter.chooseMode(new int[1000]));
+        int[] wide = new int[1000];
+        for (int i = 0; i < wide.length; i++) {
+            wide[i] = i * 1_000_000;
+        }
+        assertEquals(EdgeSorter.Mode.RADIX, EdgeSorter.chooseMode(wide));
+    }
+
+    @Test
+    void testKruskalSortModesAgree() {
+        Random random = new Random(17);
+        Graph graph = new Graph(300);
+        for (int i = 0; i < 3000; i++) {
+            graph.addEdge(random.nextInt(300), random.nextInt(300), random.nextInt(40));
+        }
+        List<Edge> expected = new KruskalMST(graph).getMSTEdges();
+        for (EdgeSorter.Mode mode : EdgeSorter.Mode.values()) {
+            assertEquals(expected, new KruskalMST(graph, mode).getMSTEdges());
+            assertEquals(expected, new KruskalMST(CompactGraph.fromGraph(graph), mode).getMSTEdges());
+        }
+    }
+}
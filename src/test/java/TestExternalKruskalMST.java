@@ -0,0 +1,64 @@
+import graph.Edge;
+import graph.Graph;
+import mst.ExternalKruskalMST;
+import mst.KruskalMST;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+class TestExternalKruskalMST {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSmallChunksMatchInMemoryKruskal() throws IOException {
+        Random random = new Random(16);
+        Graph graph = new Graph(200);
+        for (int v = 1; v < 200; v++) {
+            graph.addEdge(random.nextInt(v), v, random.nextInt(50));
+        }
+        for (int i = 0; i < 3000; i++) {
+            graph.addEdge(random.nextInt(200), random.nextInt(200), random.nextInt(50));
+        }
+        Path edgeFile = tempDir.resolve("graph.edges");
+        ExternalKruskalMST.writeEdgeRecords(edgeFile, graph.getEdges().iterator());
+        Path workDir = Files.createDirectory(tempDir.resolve("runs"));
+
+        ExternalKruskalMST external = new ExternalKruskalMST(edgeFile, 200, workDir, 256);
+        KruskalMST inMemory = new KruskalMST(graph);
+
+        assertEquals(inMemory.getMSTEdges(), external.getMSTEdges());
+        assertEquals(inMemory.getTotalWeight(), external.getTotalWeight());
+        assertTrue(external.isValid(200));
+        assertEquals(13, external.getRunCount());
+        assertEquals(3199, external.getEdgesRead());
+        assertEquals(3199L * 12, external.getBytesWritten());
+        assertEquals(0, Files.list(workDir).count());
+    }
+
+    @Test
+    void testRejectsTruncatedFile() throws IOException {
+        Path edgeFile = tempDir.resolve("broken.edges");
+        Files.write(edgeFile, new byte[20]);
+        assertThrows(IOException.class, () -> new ExternalKruskalMST(edgeFile, 4, tempDir, 16));
+        assertThrows(IllegalArgumentException.class, () -> new ExternalKruskalMST(edgeFile, 4, tempDir, 0));
+    }
+
+    @Test
+    void testRejectsVertexOutOfRangeAndCleansUpRuns() throws IOException {
+        Path edgeFile = tempDir.resolve("range.edges");
+        ExternalKruskalMST.writeEdgeRecords(edgeFile, List.of(new Edge(0, 1, 1), new Edge(1, 4, 2)).iterator());
+        Path workDir = Files.createDirectory(tempDir.resolve("runs"));
+
+        IOException thrown = assertThrows(IOException.class, () -> new ExternalKruskalMST(edgeFile, 4, workDir, 1));
+        assertTrue(thrown.getMessage().contains("1 -- 4"));
+        assertEquals(0, Files.list(workDir).count());
+    }
+}
@@ -0,0 +1,45 @@
+import graph.CompactGraph;
+import graph.Edge;
+import graph.Graph;
+import mst.FilterKruskalMST;
+import mst.KruskalMST;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+class TestFilterKruskalMST {
+
+    @Test
+    void testSampleGraph() {
+        Graph graph = Graph.createSampleGraph();
+        FilterKruskalMST mst = new FilterKruskalMST(graph);
+
+        assertEquals(9, mst.getTotalWeight());
+        assertTrue(mst.isValid(graph.getVertices()));
+    }
+
+    @Test
+    void testLargeGraphMatchesKruskal() {
+        Random random = new Random(3);
+        int vertices = 2000;
+        List<Edge> edges = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            edges.add(new Edge(random.nextInt(vertices), random.nextInt(vertices), random.nextInt(500)));
+        }
+        CompactGraph graph = CompactGraph.fromEdges(vertices, edges);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            FilterKruskalMST parallel = new FilterKruskalMST(graph, pool);
+            KruskalMST sequential = new KruskalMST(graph);
+            assertEquals(sequential.getTotalWeight(), parallel.getTotalWeight());
+            assertEquals(sequential.getMSTEdges(), parallel.getMSTEdges());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -18,6 +18,7 @@ class TestGraph {
         graph.addEdge(1, 2, 20);
 
         assertEquals(2, graph.getEdges().size());
+        assertEquals(2, graph.getEdgeCount());
         assertEquals(1, graph.getAdjacentEdges(0).size());
         assertEquals(2, graph.getAdjacentEdges(1).size());
     }
@@ -0,0 +1,69 @@
+import graph.CompactGraph;
+import graph.Edge;
+import graph.Graph;
+import graph.GraphFile;
+import mst.KruskalMST;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+class TestGraphFile {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRoundTripWithCsrAndMST() throws IOException {
+        CompactGraph graph = CompactGraph.fromGraph(Graph.createSampleGraph());
+        List<Edge> mstEdges = new KruskalMST(graph).getMSTEdges();
+        Path file = tempDir.resolve("sample.mstg");
+        GraphFile.write(file, graph, true, mstEdges);
+
+        GraphFile loaded = GraphFile.open(file);
+        CompactGraph mapped = loaded.getGraph();
+        assertTrue(loaded.isCsrMapped());
+        assertTrue(loaded.hasMST());
+        assertEquals(graph.getEdges(), mapped.getEdges());
+        assertEquals(graph.degree(3), mapped.degree(3));
+        assertEquals(mstEdges, loaded.getMSTEdges());
+        assertEquals(9, loaded.getMSTWeight());
+        assertEquals(9, new KruskalMST(mapped).getTotalWeight());
+    }
+
+    @Test
+    void testEdgesOnlyBuildsCsrOnLoad() throws IOException {
+        CompactGraph graph = CompactGraph.fromGraph(Graph.createSampleGraph());
+        Path file = tempDir.resolve("edges.mstg");
+        GraphFile.write(file, graph, false);
+
+        GraphFile loaded = GraphFile.open(file);
+        assertFalse(loaded.isCsrMapped());
+        assertFalse(loaded.hasMST());
+        assertEquals(graph.findEdgeId(4, 5, 2), loaded.getGraph().findEdgeId(5, 4, 2));
+    }
+
+    @Test
+    void testRejectsForeignFile() throws IOException {
+        Path file = tempDir.resolve("text.txt");
+        Files.write(file, new byte[128]);
+        assertThrows(IOException.class, () -> GraphFile.open(file));
+    }
+
+    @Test
+    void testRejectsMSTEdgeIdOutOfRange() throws IOException {
+        CompactGraph graph = CompactGraph.fromGraph(Graph.createSampleGraph());
+        Path file = tempDir.resolve("corrupt.mstg");
+        GraphFile.write(file, graph, true, new KruskalMST(graph).getMSTEdges());
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] = 0x7F; // last MST id becomes huge (little-endian high byte)
+        Files.write(file, bytes);
+        IOException thrown = assertThrows(IOException.class, () -> GraphFile.open(file));
+        assertTrue(thrown.getMessage().contains("out of range"));
+    }
+}
@@ -0,0 +1,88 @@
+import graph.CompactGraph;
+import graph.GraphGenerator;
+import mst.KruskalMST;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+class TestGraphGenerator {
+
+    private static void assertSameEdges(CompactGraph expected, CompactGraph actual) {
+        assertEquals(expected.getVertices(), actual.getVertices());
+        assertEquals(expected.getEdgeCount(), actual.getEdgeCount());
+        for (int e = 0; e < expected.getEdgeCount(); e++) {
+            assertEquals(expected.getSource(e), actual.getSource(e));
+            assertEquals(expected.getDestination(e), actual.getDestination(e));
+            assertEquals(expected.getWeight(e), actual.getWeight(e));
+        }
+    }
+
+    @Test
+    void testSameSeedSameGraphOnAnyPool() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool many = new ForkJoinPool(4);
+        try {
+            GraphGenerator serial = new GraphGenerator(42, 1000, single);
+            GraphGenerator parallel = new GraphGenerator(42, 1000, many);
+            assertSameEdges(serial.erdosRenyi(5000, 300_000), parallel.erdosRenyi(5000, 300_000));
+            assertSameEdges(serial.rmat(12, 200_000), parallel.rmat(12, 200_000));
+            assertSameEdges(serial.randomGeometric(20_000, 0.02), parallel.randomGeometric(20_000, 0.02));
+            assertSameEdges(serial.grid(300, 400), parallel.grid(300, 400));
+        } finally {
+            single.shutdown();
+            many.shutdown();
+        }
+    }
+
+    @Test
+    void testErdosRenyiHasNoSelfLoops() {
+        CompactGraph graph = new GraphGenerator(7, 50, ForkJoinPool.commonPool()).erdosRenyi(10, 100_000);
+        assertEquals(100_000, graph.getEdgeCount());
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            assertNotEquals(graph.getSource(e), graph.getDestination(e));
+            assertTrue(graph.getWeight(e) >= 1 && graph.getWeight(e) <= 50);
+        }
+    }
+
+    @Test
+    void testGridAndPathAreSpanned() {
+        GraphGenerator generator = new GraphGenerator(3);
+        CompactGraph grid = generator.grid(20, 30);
+        assertEquals(600, grid.getVertices());
+        assertEquals(20 * 29 + 19 * 30, grid.getEdgeCount());
+        assertTrue(new KruskalMST(grid).isValid(grid.getVertices()));
+
+        CompactGraph path = generator.path(100_000);
+        assertEquals(99_999, path.getEdgeCount());
+        assertEquals(2, path.adjacencyEnd(50_000) - path.adjacencyStart(50_000));
+        assertTrue(new KruskalMST(path).isValid(path.getVertices()));
+    }
+
+    @Test
+    void testRandomGeometricEdgesWithinRadius() {
+        CompactGraph graph = new GraphGenerator(11, 1000, ForkJoinPool.commonPool()).randomGeometric(2000, 0.05);
+        assertTrue(graph.getEdgeCount() > 0);
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            assertNotEquals(graph.getSource(e), graph.getDestination(e));
+            assertTrue(graph.getWeight(e) <= 50); // distance < radius, scaled by maxWeight
+        }
+    }
+
+    @Test
+    void testRandomGeometricTinyRadiusKeepsGridSmall() {
+        // 1 / radius alone would ask for a 2^15 x 2^15 cell grid
+        CompactGraph graph = new GraphGenerator(4).randomGeometric(100, 1e-9);
+        assertEquals(100, graph.getVertices());
+        assertEquals(0, graph.getEdgeCount());
+    }
+
+    @Test
+    void testRejectsInvalidParameters() {
+        GraphGenerator generator = new GraphGenerator(1);
+        assertThrows(IllegalArgumentException.class, () -> generator.erdosRenyi(1, 10));
+        assertThrows(IllegalArgumentException.class, () -> generator.rmat(8, 10, 0.5, 0.4, 0.3));
+        assertThrows(IllegalArgumentException.class, () -> generator.randomGeometric(10, 0));
+        assertThrows(IllegalArgumentException.class, () -> generator.grid(100_000, 100_000));
+    }
+}
@@ -0,0 +1,71 @@
+import graph.Edge;
+import graph.Graph;
+import mst.LinkCutDynamicMST;
+import mst.KruskalMST;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class TestLinkCutDynamicMST {
+
+    @Test
+    void testInsertEvictsCycleMaximum() {
+        LinkCutDynamicMST dynamic = new LinkCutDynamicMST(Graph.createSampleGraph());
+        assertEquals(9, dynamic.getTotalWeight());
+        assertTrue(dynamic.isSpanningTree());
+
+        dynamic.insertEdge(0, 5, 1);
+        assertEquals(7, dynamic.getTotalWeight());
+        assertFalse(dynamic.getCurrentMSTEdges().contains(new Edge(0, 2, 3)));
+    }
+
+    @Test
+    void testDeleteAndReweight() {
+        LinkCutDynamicMST dynamic = new LinkCutDynamicMST(Graph.createSampleGraph());
+
+        assertTrue(dynamic.deleteEdge(new Edge(1, 3, 2)));
+        assertEquals(11, dynamic.getTotalWeight());
+        assertTrue(dynamic.getCurrentMSTEdges().contains(new Edge(2, 3, 4)));
+
+        Edge updated = dynamic.updateWeight(new Edge(2, 3, 4), 10);
+        assertEquals(new Edge(2, 3, 10), updated);
+        assertEquals(12, dynamic.getTotalWeight());
+        assertFalse(dynamic.deleteEdge(new Edge(1, 3, 2)));
+    }
+
+    @Test
+    void testRandomOperationsMatchKruskal() {
+        Random random = new Random(11);
+        int vertices = 25;
+        LinkCutDynamicMST dynamic = new LinkCutDynamicMST(vertices);
+        List<Edge> present = new ArrayList<>();
+
+        for (int step = 0; step < 2000; step++) {
+            int action = random.nextInt(3);
+            if (action == 0 || present.isEmpty()) {
+                Edge edge = new Edge(random.nextInt(vertices), random.nextInt(vertices), random.nextInt(100));
+                if (present.contains(edge)) continue;
+                dynamic.insertEdge(edge);
+                present.add(edge);
+            } else if (action == 1) {
+                Edge edge = present.remove(random.nextInt(present.size()));
+                assertTrue(dynamic.deleteEdge(edge));
+            } else {
+                int index = random.nextInt(present.size());
+                Edge edge = present.get(index);
+                Edge updated = new Edge(edge.getSource(), edge.getDestination(), random.nextInt(100));
+                if (present.contains(updated)) continue;
+                present.set(index, dynamic.updateWeight(edge, updated.getWeight()));
+            }
+
+            Graph graph = new Graph(vertices);
+            present.forEach(graph::addEdge);
+            KruskalMST expected = new KruskalMST(graph);
+            assertEquals(expected.getTotalWeight(), dynamic.getTotalWeight());
+            assertEquals(expected.getMSTEdges().size(), dynamic.getCurrentMSTEdges().size());
+        }
+    }
+}
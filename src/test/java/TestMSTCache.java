@@ -0,0 +1,50 @@
+import graph.Graph;
+import mst.MSTAlgorithm;
+import mst.MSTCache;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestMSTCache {
+
+    @Test
+    void testHitsUntilGraphChanges() {
+        MSTCache cache = new MSTCache(4);
+        Graph graph = Graph.createSampleGraph();
+
+        MSTAlgorithm first = cache.getMST(graph);
+        assertSame(first, cache.getMST(graph));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        int[] order = cache.getSortedEdgeOrder(graph);
+        assertSame(order, cache.getSortedEdgeOrder(graph));
+        assertEquals(1, cache.getComponents(graph).getComponentCount());
+
+        graph.addEdge(0, 5, 1);
+        MSTAlgorithm rebuilt = cache.getMST(graph);
+        assertNotSame(first, rebuilt);
+        assertEquals(7, rebuilt.getTotalWeight());
+        assertEquals(1, cache.getInvalidations());
+        assertEquals(2, cache.getHits());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEviction() {
+        MSTCache cache = new MSTCache(2);
+        Graph a = Graph.createSampleGraph();
+        Graph b = Graph.createSampleGraph();
+        Graph c = Graph.createSampleGraph();
+
+        cache.getMST(a);
+        cache.getMST(b);
+        cache.getMST(a);
+        cache.getMST(c);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        cache.getMST(a);
+        assertEquals(2, cache.getHits());
+        cache.getMST(b);
+        assertEquals(4, cache.getMisses());
+    }
+}
@@ -1,7 +1,10 @@
+import graph.CompactGraph;
 import graph.Graph;
 import graph.Edge;
 import mst.KruskalMST;
 import mst.MSTReplacer;
+import java.util.List;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -33,6 +36,106 @@ class TestMSTReplacer {
         assertTrue(replacer.getCurrentMSTEdges().size() <= 2);
     }
 
+    @Test
+    void testConsecutiveRemovals() {
+        Graph graph = Graph.createSampleGraph();
+        KruskalMST mst = new KruskalMST(graph);
+        MSTReplacer replacer = new MSTReplacer(graph, mst.getMSTEdges());
+
+        assertEquals(new Edge(2, 3, 4), replacer.removeAndReplace(findEdge(mst.getMSTEdges(), 1, 3)));
+        assertEquals(new Edge(2, 4, 5), replacer.removeAndReplace(new Edge(3, 4, 1)));
+        assertEquals(15, Graph.calculateTotalWeight(replacer.getCurrentMSTEdges()));
+        assertNull(replacer.removeAndReplace(new Edge(1, 3, 2)));
+    }
+
+    @Test
+    void testRemoveAndReplaceAll() {
+        Graph graph = Graph.createSampleGraph();
+        KruskalMST mst = new KruskalMST(graph);
+        MSTReplacer replacer = new MSTReplacer(graph, mst.getMSTEdges());
+
+        List<Edge> replacements = replacer.removeAndReplaceAll(
+                List.of(new Edge(1, 3, 2), new Edge(4, 5, 2)));
+
+        assertEquals(2, replacements.size());
+        assertTrue(replacements.contains(new Edge(2, 3, 4)));
+        assertTrue(replacements.contains(new Edge(3, 5, 6)));
+        assertEquals(5, replacer.getCurrentMSTEdges().size());
+        assertEquals(15, Graph.calculateTotalWeight(replacer.getCurrentMSTEdges()));
+    }
+
+    @Test
+    void testRemoveAndReplaceAllUsesParallelCopy() {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(0, 1, 5); // parallel copy of the removed edge
+        graph.addEdge(0, 2, 9);
+
+        MSTReplacer replacer = new MSTReplacer(graph, new KruskalMST(graph).getMSTEdges());
+        List<Edge> replacements = replacer.removeAndReplaceAll(List.of(new Edge(0, 1, 1)));
+
+        assertEquals(List.of(new Edge(0, 1, 5)), replacements);
+        assertEquals(6, replacer.getTotalWeight());
+    }
+
+    @Test
+    void testSingleRemovalUsesParallelCopyLikeBatch() {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(0, 1, 5); // parallel copy of the removed edge
+        graph.addEdge(0, 2, 9);
+        List<Edge> mstEdges = new KruskalMST(graph).getMSTEdges();
+
+        MSTReplacer byEdge = new MSTReplacer(graph, mstEdges);
+        assertEquals(new Edge(0, 1, 5), byEdge.removeAndReplace(new Edge(0, 1, 1)));
+        assertEquals(6, byEdge.getTotalWeight());
+
+        CompactGraph compact = CompactGraph.fromGraph(graph);
+        MSTReplacer byId = new MSTReplacer(compact, mstEdges);
+        int removedId = byId.findTreeEdgeId(0, 1);
+        int replacementId = byId.removeAndReplaceId(removedId);
+        assertNotEquals(removedId, replacementId);
+        assertEquals(new Edge(0, 1, 5), compact.getEdge(replacementId));
+    }
+
+    @Test
+    void testInsertAndReplaceEvictsCycleMaximum() {
+        Graph graph = Graph.createSampleGraph();
+        KruskalMST mst = new KruskalMST(graph);
+        MSTReplacer replacer = new MSTReplacer(graph, mst.getMSTEdges());
+
+        assertEquals(new Edge(0, 2, 3), replacer.insertAndReplace(new Edge(0, 3, 1)));
+        assertEquals(7, Graph.calculateTotalWeight(replacer.getCurrentMSTEdges()));
+        assertNull(replacer.insertAndReplace(new Edge(2, 5, 9)));
+        assertEquals(5, replacer.getCurrentMSTEdges().size());
+    }
+
+    @Test
+    void testInsertionsMatchRebuiltMST() {
+        Random random = new Random(14);
+        Graph graph = new Graph(40);
+        for (int i = 0; i < 60; i++) {
+            graph.addEdge(random.nextInt(40), random.nextInt(40), random.nextInt(100));
+        }
+        MSTReplacer replacer = new MSTReplacer(graph, new KruskalMST(graph).getMSTEdges());
+
+        for (int i = 0; i < 200; i++) {
+            Edge edge = new Edge(random.nextInt(40), random.nextInt(40), random.nextInt(100));
+            graph.addEdge(edge.getSource(), edge.getDestination(), edge.getWeight());
+            replacer.insertAndReplace(edge);
+            if (i % 20 == 0) {
+                Edge treeEdge = replacer.getCurrentMSTEdges().get(0);
+                replacer.removeAndReplace(treeEdge);
+                replacer.insertAndReplace(treeEdge);
+            }
+            assertEquals(new KruskalMST(graph).getTotalWeight(),
+                    Graph.calculateTotalWeight(replacer.getCurrentMSTEdges()));
+        }
+        assertEquals(39, replacer.getCurrentMSTEdges().size());
+    }
+
     private Graph createReplacementGraph() {
         Graph graph = new Graph(5);
         graph.addEdge(0, 1, 1);
@@ -43,7 +146,7 @@ class TestMSTReplacer {
         return graph;
     }
 
-    private Edge findEdge(java.util.List<Edge> edges, int u, int v) {
+    private Edge findEdge(List<Edge> edges, int u, int v) {
         return edges.stream()
                 .filter(e -> (e.getSource() == u && e.getDestination() == v) ||
                         (e.getSource() == v && e.getDestination() == u))
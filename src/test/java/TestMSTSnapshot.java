@@ -0,0 +1,126 @@
+import graph.Edge;
+import graph.Graph;
+import mst.KruskalMST;
+import mst.MSTReplacer;
+import mst.MSTSnapshot;
+import util.PersistentVector;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+class TestMSTSnapshot {
+
+    @Test
+    void testPersistentVectorKeepsOldVersions() {
+        Random random = new Random(19);
+        List<List<Integer>> expected = new ArrayList<>();
+        List<PersistentVector<Integer>> versions = new ArrayList<>();
+        List<Integer> model = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < 3000; i++) {
+            if (model.isEmpty() || random.nextInt(3) > 0) {
+                model.add(i);
+                vector = vector.append(i);
+            } else {
+                int index = random.nextInt(model.size());
+                model.set(index, -i);
+                vector = vector.set(index, -i);
+            }
+            if (i % 100 == 0) {
+                expected.add(new ArrayList<>(model));
+                versions.add(vector);
+            }
+        }
+        for (int v = 0; v < versions.size(); v++) {
+            List<Integer> actual = new ArrayList<>();
+            versions.get(v).forEach(actual::add);
+            assertEquals(expected.get(v), actual);
+            assertEquals(expected.get(v).get(expected.get(v).size() - 1),
+                    versions.get(v).get(versions.get(v).size() - 1));
+        }
+    }
+
+    @Test
+    void testReplacementPublishesNewVersion() {
+        Graph graph = Graph.createSampleGraph();
+        MSTReplacer replacer = new MSTReplacer(graph, new KruskalMST(graph).getMSTEdges());
+        MSTSnapshot before = replacer.getSnapshot();
+
+        replacer.removeAndReplace(new Edge(1, 3, 2));
+        MSTSnapshot after = replacer.getSnapshot();
+
+        assertEquals(9, before.getTotalWeight());
+        assertTrue(before.getEdges().contains(new Edge(1, 3, 2)));
+        assertEquals(11, after.getTotalWeight());
+        assertTrue(after.getEdges().contains(new Edge(2, 3, 4)));
+        assertTrue(after.getVersion() > before.getVersion());
+        assertEquals(5, after.getEdgeCount());
+
+    }
+
+    @Test
+    void testBridgeRemovalLeavesForest() {
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 2);
+        graph.addEdge(0, 2, 3);
+        graph.addEdge(2, 3, 4);
+        MSTReplacer replacer = new MSTReplacer(graph, new KruskalMST(graph).getMSTEdges());
+        MSTSnapshot before = replacer.getSnapshot();
+
+        assertNull(replacer.removeAndReplace(new Edge(2, 3, 4)));
+        MSTSnapshot split = replacer.getSnapshot();
+        assertFalse(split.connected(0, 3));
+        assertTrue(before.connected(0, 3));
+        assertEquals(2, split.getEdgeCount());
+        assertEquals(3, split.getSlotCount());
+
+        replacer.insertAndReplace(new Edge(1, 3, 5));
+        assertEquals(3, replacer.getSnapshot().getSlotCount());
+        assertTrue(replacer.getSnapshot().isSpanningTree());
+    }
+
+    @Test
+    void testReadersSeeConsistentVersions() throws InterruptedException {
+        Random random = new Random(23);
+        Graph graph = new Graph(64);
+        for (int v = 1; v < 64; v++) {
+            graph.addEdge(random.nextInt(v), v, random.nextInt(100));
+        }
+        MSTReplacer replacer = new MSTReplacer(graph, new KruskalMST(graph).getMSTEdges());
+
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread[] readers = new Thread[4];
+        for (int t = 0; t < readers.length; t++) {
+            readers[t] = new Thread(() -> {
+                while (!done.get()) {
+                    MSTSnapshot snapshot = replacer.getSnapshot();
+                    long[] sum = new long[2];
+                    snapshot.forEachEdge(edge -> {
+                        sum[0] += edge.getWeight();
+                        sum[1]++;
+                    });
+                    if (sum[0] != snapshot.getTotalWeight() || sum[1] != snapshot.getEdgeCount()) {
+                        failure.set("Inconsistent snapshot " + snapshot.getVersion());
+                    }
+                }
+            });
+            readers[t].start();
+        }
+        for (int i = 0; i < 2000; i++) {
+            replacer.insertAndReplace(new Edge(random.nextInt(64), random.nextInt(64), random.nextInt(100)));
+        }
+        done.set(true);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertNull(failure.get());
+        assertEquals(63, replacer.getSnapshot().getEdgeCount());
+    }
+}
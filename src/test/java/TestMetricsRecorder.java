@@ -0,0 +1,63 @@
+import graph.Edge;
+import graph.Graph;
+import metrics.Histogram;
+import metrics.MSTListener;
+import metrics.MetricsRecorder;
+import mst.KruskalMST;
+import mst.MSTReplacer;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+class TestMetricsRecorder {
+
+    @Test
+    void testReplacerReportsToRecorder() {
+        Graph graph = Graph.createSampleGraph();
+        MSTReplacer replacer = new MSTReplacer(graph, new KruskalMST(graph).getMSTEdges());
+        MetricsRecorder recorder = new MetricsRecorder();
+        replacer.setListener(recorder);
+
+        replacer.removeAndReplace(new Edge(1, 3, 2));
+        replacer.removeAndReplace(new Edge(0, 5, 7));
+        replacer.insertAndReplace(new Edge(0, 5, 1));
+        replacer.removeAndReplaceAll(List.of(new Edge(4, 5, 2)));
+
+        assertEquals(2, recorder.getEdgesRemoved());
+        assertEquals(1, recorder.getEdgesNotInTree());
+        assertEquals(2, recorder.getReplacementsFound());
+        assertEquals(0, recorder.getBridges());
+        assertEquals(1, recorder.getEdgesInserted());
+        assertEquals(1, recorder.getEvictions());
+        assertEquals(2, recorder.getReplacementSearchNanos().getCount());
+        assertEquals(2, recorder.getComponentCounts().getMax());
+        assertTrue(recorder.getUnions() >= 4);
+        assertTrue(recorder.getFinds() > 0);
+    }
+
+    @Test
+    void testComponentLabelingReportsUnionFindWork() {
+        MetricsRecorder recorder = new MetricsRecorder();
+        MSTListener.labelComponents(6, Graph.createSampleGraph().getEdges(), recorder);
+
+        assertEquals(5, recorder.getUnions());
+        assertEquals(1, recorder.getComponentCounts().getCount());
+        assertEquals(1, recorder.getComponentCounts().getMax());
+        assertEquals(2 * 9 + 6, recorder.getFindPathLengths().getCount());
+    }
+
+    @Test
+    void testHistogramBuckets() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(50.5, histogram.getMean());
+        assertEquals(63, histogram.getPercentile(0.5));
+        assertEquals(100, histogram.getPercentile(0.99));
+        assertEquals(1, histogram.getMin());
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+    }
+}
@@ -0,0 +1,76 @@
+import graph.Edge;
+import graph.Graph;
+import mst.KruskalMST;
+import mst.OfflineDynamicMST;
+import util.ComponentFinder;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+class TestOfflineDynamicMST {
+
+    @Test
+    void testSampleTimeline() {
+        OfflineDynamicMST offline = new OfflineDynamicMST(6);
+        for (Edge edge : Graph.createSampleGraph().getEdges()) {
+            offline.addEdge(edge);
+        }
+        int full = offline.queryMSTWeight();
+        offline.removeEdge(new Edge(1, 3, 2));
+        int afterRemoval = offline.queryMSTWeight();
+        offline.removeEdge(new Edge(3, 5, 6));
+        offline.removeEdge(new Edge(4, 5, 2));
+        int isolated = offline.queryConnected(0, 5);
+        int isolatedWeight = offline.queryMSTWeight();
+
+        assertEquals(9, offline.getMSTWeight(full));
+        assertEquals(11, offline.getMSTWeight(afterRemoval));
+        assertFalse(offline.isConnected(isolated));
+        assertEquals(9, offline.getMSTWeight(isolatedWeight));
+        assertThrows(IllegalArgumentException.class, () -> offline.isConnected(full));
+        assertThrows(IllegalArgumentException.class, () -> offline.removeEdge(new Edge(1, 3, 2)));
+    }
+
+    @Test
+    void testRandomTimelineMatchesRebuilds() {
+        Random random = new Random(21);
+        int vertices = 30;
+        OfflineDynamicMST offline = new OfflineDynamicMST(vertices);
+        List<Edge> alive = new ArrayList<>();
+        List<Long> expected = new ArrayList<>();
+        List<Integer> queries = new ArrayList<>();
+        List<Boolean> isWeightQuery = new ArrayList<>();
+
+        for (int step = 0; step < 1500; step++) {
+            int action = random.nextInt(10);
+            if (action < 4 || alive.isEmpty()) {
+                Edge edge = new Edge(random.nextInt(vertices), random.nextInt(vertices), random.nextInt(50));
+                alive.add(edge);
+                offline.addEdge(edge);
+            } else if (action < 7) {
+                offline.removeEdge(alive.remove(random.nextInt(alive.size())));
+            } else if (action < 9) {
+                int u = random.nextInt(vertices);
+                int v = random.nextInt(vertices);
+                queries.add(offline.queryConnected(u, v));
+                isWeightQuery.add(false);
+                expected.add(ComponentFinder.labelComponents(vertices, alive).sameComponent(u, v) ? 1L : 0L);
+            } else {
+                queries.add(offline.queryMSTWeight());
+                isWeightQuery.add(true);
+                Graph graph = new Graph(vertices);
+                alive.forEach(graph::addEdge);
+                expected.add((long) new KruskalMST(graph).getTotalWeight());
+            }
+        }
+
+        for (int i = 0; i < queries.size(); i++) {
+            long actual = isWeightQuery.get(i) ? offline.getMSTWeight(queries.get(i))
+                    : (offline.isConnected(queries.get(i)) ? 1 : 0);
+            assertEquals(expected.get(i), actual, "query " + i);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+import graph.CompactGraph;
+import graph.Graph;
+import mst.KruskalMST;
+import mst.PrimMST;
+import util.IndexedDaryHeap;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+class TestPrimMST {
+
+    @Test
+    void testBothVariantsOnSampleGraph() {
+        Graph graph = Graph.createSampleGraph();
+        for (PrimMST.Variant variant : PrimMST.Variant.values()) {
+            PrimMST mst = new PrimMST(graph, variant);
+            assertEquals(9, mst.getTotalWeight());
+            assertTrue(mst.isValid(graph.getVertices()));
+        }
+    }
+
+    @Test
+    void testAutoSelectionByDensity() {
+        Graph sparse = new Graph(1000);
+        for (int v = 1; v < 1000; v++) {
+            sparse.addEdge(v - 1, v, v);
+        }
+        assertEquals(PrimMST.Variant.HEAP, new PrimMST(sparse).getVariant());
+
+        Graph dense = randomGraph(new Random(1), 100, 2500);
+        assertEquals(PrimMST.Variant.ARRAY, new PrimMST(dense).getVariant());
+    }
+
+    @Test
+    void testMatchesKruskalOnForests() {
+        Random random = new Random(9);
+        for (int round = 0; round < 20; round++) {
+            Graph graph = randomGraph(random, 60, random.nextInt(400));
+            long expected = new KruskalMST(graph).getTotalWeight();
+            assertEquals(expected, new PrimMST(graph, PrimMST.Variant.HEAP).getTotalWeight());
+            assertEquals(expected, new PrimMST(graph, PrimMST.Variant.ARRAY).getTotalWeight());
+            assertEquals(expected, new PrimMST(CompactGraph.fromGraph(graph)).getTotalWeight());
+        }
+    }
+
+    @Test
+    void testIndexedHeapDecreaseKey() {
+        IndexedDaryHeap heap = new IndexedDaryHeap(10, 4);
+        for (int i = 0; i < 10; i++) {
+            heap.offer(i, 100 - i);
+        }
+        assertFalse(heap.offer(3, 500));
+        assertTrue(heap.offer(7, -5));
+        assertEquals(7, heap.poll());
+        assertEquals(9, heap.poll());
+        assertEquals(8, heap.size());
+        assertFalse(heap.contains(9));
+    }
+
+    private Graph randomGraph(Random random, int vertices, int edges) {
+        Graph graph = new Graph(vertices);
+        for (int i = 0; i < edges; i++) {
+            graph.addEdge(random.nextInt(vertices), random.nextInt(vertices), random.nextInt(100) - 20);
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,74 @@
+import graph.DoubleWeightGraph;
+import graph.Edge;
+import graph.Graph;
+import graph.LongWeightGraph;
+import mst.BoruvkaMST;
+import mst.DoubleKruskalMST;
+import mst.FilterKruskalMST;
+import mst.KruskalMST;
+import mst.LongKruskalMST;
+import mst.PrimMST;
+import util.EdgeSorter;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+class TestPrimitiveWeights {
+
+    @Test
+    void testLongWeightsDoNotOverflow() {
+        LongWeightGraph graph = new LongWeightGraph(4);
+        graph.addEdge(0, 1, 3_000_000_000L);
+        graph.addEdge(1, 2, 4_000_000_000L);
+        graph.addEdge(2, 3, -5L);
+        graph.addEdge(0, 2, 5_000_000_000L);
+        assertEquals(11_999_999_995L, graph.getTotalWeight());
+
+        LongKruskalMST mst = new LongKruskalMST(graph);
+        assertEquals(6_999_999_995L, mst.getTotalWeight());
+        assertArrayEquals(new int[]{2, 0, 1}, mst.getMSTEdgeIds());
+        assertTrue(mst.isValid(4));
+    }
+
+    @Test
+    void testSpecializationsMatchIntKruskal() {
+        Random random = new Random(22);
+        Graph graph = new Graph(100);
+        for (int i = 0; i < 800; i++) {
+            graph.addEdge(random.nextInt(100), random.nextInt(100), random.nextInt(200) - 50);
+        }
+        DoubleWeightGraph doubles = new DoubleWeightGraph(100);
+        for (Edge edge : graph.getEdges()) {
+            doubles.addEdge(edge.getSource(), edge.getDestination(), edge.getWeight() / 4.0);
+        }
+
+        long expected = new KruskalMST(graph).getTotalWeight();
+        assertEquals(expected, new LongKruskalMST(LongWeightGraph.fromGraph(graph)).getTotalWeight());
+        assertEquals(expected / 4.0, new DoubleKruskalMST(doubles).getTotalWeight(), 1e-9);
+        assertEquals(Graph.calculateTotalWeight(graph.getEdges()), graph.getTotalWeight());
+    }
+
+    @Test
+    void testIntWeightEnginesSumIntoLong() {
+        Graph graph = new Graph(4);
+        graph.addEdge(0, 1, Integer.MAX_VALUE);
+        graph.addEdge(1, 2, Integer.MAX_VALUE);
+        graph.addEdge(2, 3, Integer.MAX_VALUE);
+        long expected = 3L * Integer.MAX_VALUE;
+
+        assertEquals(expected, new KruskalMST(graph).getTotalWeight());
+        assertEquals(expected, new FilterKruskalMST(graph).getTotalWeight());
+        assertEquals(expected, new BoruvkaMST(graph).getTotalWeight());
+        assertEquals(expected, new PrimMST(graph).getTotalWeight());
+        assertEquals(expected, Graph.calculateTotalWeight(graph.getEdges()));
+    }
+
+    @Test
+    void testDoubleOrderHandlesSignsAndRejectsNaN() {
+        double[] weights = {0.5, -0.0, -2.5, 0.0, Double.NEGATIVE_INFINITY, 1e300, -1e-300};
+        assertArrayEquals(new int[]{4, 2, 6, 1, 3, 0, 5}, EdgeSorter.sortedOrder(weights));
+        assertThrows(IllegalArgumentException.class, () -> EdgeSorter.sortedOrder(new double[]{1, Double.NaN}));
+        assertThrows(IllegalArgumentException.class, () -> new DoubleWeightGraph(2).addEdge(0, 1, Double.NaN));
+    }
+}
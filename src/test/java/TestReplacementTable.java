@@ -0,0 +1,78 @@
+import graph.Edge;
+import graph.Graph;
+import mst.KruskalMST;
+import mst.MSTReplacer;
+import mst.ReplacementTable;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+class TestReplacementTable {
+
+    @Test
+    void testSampleGraph() {
+        Graph graph = Graph.createSampleGraph();
+        KruskalMST mst = new KruskalMST(graph);
+        ReplacementTable table = new MSTReplacer(graph, mst.getMSTEdges()).computeReplacementTable();
+
+        assertEquals(mst.getTotalWeight(), table.getTotalWeight());
+        assertEquals(new Edge(2, 3, 4), table.getReplacement(new Edge(1, 3, 2)));
+        assertEquals(11, table.getNewTotalWeight(new Edge(1, 3, 2)));
+    }
+
+    @Test
+    void testBridgeHasNoReplacement() {
+        Graph graph = new Graph(3);
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 2);
+        KruskalMST mst = new KruskalMST(graph);
+        ReplacementTable table = new ReplacementTable(graph, mst.getMSTEdges());
+
+        assertNull(table.getReplacement(new Edge(0, 1, 1)));
+        assertEquals(2, table.getNewTotalWeight(new Edge(0, 1, 1)));
+    }
+
+    @Test
+    void testMatchesSingleRemovals() {
+        Random random = new Random(7);
+        for (int round = 0; round < 20; round++) {
+            Graph graph = randomConnectedGraph(random, 30, 80);
+            List<Edge> mstEdges = new KruskalMST(graph).getMSTEdges();
+            ReplacementTable table = new ReplacementTable(graph, mstEdges);
+
+            for (Edge treeEdge : mstEdges) {
+                MSTReplacer replacer = new MSTReplacer(graph, mstEdges);
+                Edge expected = replacer.removeAndReplace(treeEdge);
+                Edge actual = table.getReplacement(treeEdge);
+                if (expected == null) {
+                    assertNull(actual);
+                } else {
+                    assertNotNull(actual);
+                    assertEquals(expected.getWeight(), actual.getWeight());
+                    assertEquals(Graph.calculateTotalWeight(replacer.getCurrentMSTEdges()),
+                            table.getNewTotalWeight(treeEdge));
+                }
+            }
+        }
+    }
+
+    private Graph randomConnectedGraph(Random random, int vertices, int extraEdges) {
+        Graph graph = new Graph(vertices);
+        Set<Long> used = new HashSet<>();
+        for (int v = 1; v < vertices; v++) {
+            graph.addEdge(v - 1, v, random.nextInt(50));
+            used.add((long) (v - 1) * vertices + v);
+        }
+        for (int i = 0; i < extraEdges; i++) {
+            int u = random.nextInt(vertices);
+            int v = random.nextInt(vertices);
+            if (u == v || !used.add((long) Math.min(u, v) * vertices + Math.max(u, v))) continue;
+            graph.addEdge(u, v, random.nextInt(50));
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,115 @@
+import graph.CompactGraph;
+import graph.Edge;
+import graph.GraphGenerator;
+import mst.KruskalMST;
+import mst.MSTReplacer;
+import mst.ReplacementWorkspace;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+class TestReplacementWorkspace {
+
+    private static com.sun.management.ThreadMXBean threads() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        return threads;
+    }
+
+    // Removes a random current tree edge rounds times; tree[] tracks the tree edge ids
+    private static int runSweep(MSTReplacer replacer, int[] tree, int[] picks, int rounds) {
+        int replaced = 0;
+        for (int i = 0; i < rounds; i++) {
+            int k = picks[i % picks.length];
+            if (tree[k] == -1) continue;
+            tree[k] = replacer.removeAndReplaceId(tree[k]);
+            if (tree[k] != -1) replaced++;
+        }
+        return replaced;
+    }
+
+    @Test
+    void testSteadyStateRemoveAndReplaceAllocatesNothing() {
+        com.sun.management.ThreadMXBean threads = threads();
+        long thread = Thread.currentThread().getId();
+
+        CompactGraph graph = new GraphGenerator(5, 1000, ForkJoinPool.commonPool())
+                .erdosRenyi(2000, 40_000);
+        List<Edge> mstEdges = new KruskalMST(graph).getMSTEdges();
+        MSTReplacer replacer = new MSTReplacer(graph, mstEdges, new ReplacementWorkspace());
+        int[] tree = graph.findEdgeIds(mstEdges);
+        int[] picks = new Random(3).ints(4096, 0, tree.length).toArray();
+
+        runSweep(replacer, tree, picks, 2000); // warm up the JIT and size the workspace
+
+        long baseline = threads.getThreadAllocatedBytes(thread);
+        baseline = threads.getThreadAllocatedBytes(thread) - baseline; // cost of the probe itself
+        long before = threads.getThreadAllocatedBytes(thread);
+        int replaced = runSweep(replacer, tree, picks, 1000);
+        long allocated = threads.getThreadAllocatedBytes(thread) - before - baseline;
+
+        assertTrue(replaced > 900, "most removals should find a replacement: " + replaced);
+        assertEquals(0, allocated, "bytes allocated by 1000 removeAndReplaceId calls");
+    }
+
+    @Test
+    void testIdPathMatchesEdgePath() {
+        CompactGraph graph = new GraphGenerator(8, 50, ForkJoinPool.commonPool())
+                .erdosRenyi(300, 2000);
+        List<Edge> mstEdges = new KruskalMST(graph).getMSTEdges();
+        ReplacementWorkspace workspace = new ReplacementWorkspace();
+        MSTReplacer byId = new MSTReplacer(graph, mstEdges, workspace);
+        MSTReplacer byEdge = new MSTReplacer(graph, mstEdges, workspace);
+
+        int[] tree = graph.findEdgeIds(mstEdges);
+        Random random = new Random(21);
+        for (int i = 0; i < 200; i++) {
+            int k = random.nextInt(tree.length);
+            if (tree[k] == -1) continue;
+            Edge removed = graph.getEdge(tree[k]);
+            Edge expected = byEdge.removeAndReplace(removed);
+            tree[k] = byId.removeAndReplaceId(tree[k]);
+            assertEquals(expected, tree[k] == -1 ? null : graph.getEdge(tree[k]));
+        }
+
+        long versionBefore = byId.getSnapshot().getVersion();
+        assertEquals(mstEdges.size(), byId.getSnapshot().getEdgeCount()); // nothing published yet
+        byId.publish();
+        assertTrue(byId.getSnapshot().getVersion() > versionBefore);
+        assertEquals(byEdge.getTotalWeight(), byId.getTotalWeight());
+        assertEquals(byEdge.getSnapshot().getEdgeCount(), byId.getSnapshot().getEdgeCount());
+        assertEquals(-1, byId.removeAndReplaceId(nonTreeEdge(graph, byId)));
+    }
+
+    private static int nonTreeEdge(CompactGraph graph, MSTReplacer replacer) {
+        for (int id = 0; id < graph.getEdgeCount(); id++) {
+            if (replacer.findTreeEdgeId(graph.getSource(id), graph.getDestination(id)) != id) return id;
+        }
+        throw new AssertionError("every edge is a tree edge");
+    }
+
+    @Test
+    void testWorkspaceIsThreadConfined() throws Exception {
+        CompactGraph graph = new GraphGenerator(2).path(10);
+        List<Edge> mstEdges = new KruskalMST(graph).getMSTEdges();
+        ReplacementWorkspace workspace = new ReplacementWorkspace();
+        new MSTReplacer(graph, mstEdges, workspace).removeAndReplaceId(0);
+
+        MSTReplacer other = new MSTReplacer(graph, mstEdges, workspace);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Exception thrown = assertThrows(Exception.class, () -> executor.submit(() -> other.removeAndReplaceId(3)).get());
+            assertTrue(thrown.getCause() instanceof IllegalStateException);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
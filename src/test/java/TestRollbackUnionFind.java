@@ -0,0 +1,28 @@
+import graph.RollbackUnionFind;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestRollbackUnionFind {
+
+    @Test
+    void testRollbackRestoresComponents() {
+        RollbackUnionFind uf = new RollbackUnionFind(6);
+        uf.union(0, 1);
+        int mark = uf.getHistorySize();
+        uf.union(1, 2);
+        uf.union(3, 4);
+        assertFalse(uf.union(0, 2));
+        assertTrue(uf.connected(0, 2));
+        assertEquals(3, uf.getComponentCount());
+
+        uf.rollback(mark);
+        assertTrue(uf.connected(0, 1));
+        assertFalse(uf.connected(1, 2));
+        assertFalse(uf.connected(3, 4));
+        assertEquals(5, uf.getComponentCount());
+
+        uf.rollback(0);
+        assertEquals(6, uf.getComponentCount());
+        assertThrows(IllegalArgumentException.class, () -> uf.rollback(1));
+    }
+}
@@ -0,0 +1,62 @@
+import graph.Edge;
+import graph.Graph;
+import mst.KruskalMST;
+import mst.StreamingMST;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+class TestStreamingMST {
+
+    @Test
+    void testSampleGraphStream() {
+        StreamingMST streaming = new StreamingMST(6);
+        streaming.acceptAll(Graph.createSampleGraph().getEdges().iterator());
+
+        assertEquals(9, streaming.getTotalWeight());
+        assertEquals(9, streaming.getEdgesProcessed());
+        assertTrue(streaming.isSpanningTree());
+        assertEquals(9, Graph.calculateTotalWeight(streaming.getForestEdges()));
+    }
+
+    @Test
+    void testRandomStreamMatchesKruskalAtEveryPrefix() {
+        Random random = new Random(15);
+        Graph graph = new Graph(50);
+        StreamingMST streaming = new StreamingMST(50);
+        for (int i = 0; i < 400; i++) {
+            Edge edge = new Edge(random.nextInt(50), random.nextInt(50), random.nextInt(1000));
+            graph.addEdge(edge.getSource(), edge.getDestination(), edge.getWeight());
+            streaming.accept(edge);
+            if (i % 25 == 0) {
+                KruskalMST mst = new KruskalMST(graph);
+                assertEquals(mst.getTotalWeight(), streaming.getTotalWeight());
+                assertEquals(mst.getMSTEdges().size(), streaming.getTreeEdgeCount());
+            }
+        }
+    }
+
+    @Test
+    void testInputStreamRecords() throws IOException {
+        List<Edge> edges = Graph.createSampleGraph().getEdges();
+        ByteBuffer records = ByteBuffer.allocate(12 * edges.size()).order(ByteOrder.LITTLE_ENDIAN);
+        for (Edge edge : edges) {
+            records.putInt(edge.getSource()).putInt(edge.getDestination()).putInt(edge.getWeight());
+        }
+
+        StreamingMST streaming = new StreamingMST(6);
+        streaming.acceptAll(new ByteArrayInputStream(records.array()));
+        assertEquals(9, streaming.getTotalWeight());
+
+        byte[] truncated = Arrays.copyOf(records.array(), 20);
+        assertThrows(EOFException.class, () -> new StreamingMST(6).acceptAll(new ByteArrayInputStream(truncated)));
+    }
+}
@@ -0,0 +1,56 @@
+import graph.CompactGraph;
+import graph.Edge;
+import graph.SparseGraphBuilder;
+import graph.VertexIdMap;
+import mst.KruskalMST;
+import mst.MSTReplacer;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+class TestVertexIdMap {
+
+    @Test
+    void testRoundTripThroughRehashes() {
+        Random random = new Random(17);
+        VertexIdMap idMap = new VertexIdMap();
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            long id = random.nextLong() >>> random.nextInt(64);
+            int dense = idMap.getOrAdd(id);
+            assertEquals(expected.computeIfAbsent(id, k -> expected.size()), dense);
+        }
+        assertEquals(expected.size(), idMap.size());
+        for (Map.Entry<Long, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), idMap.get(entry.getKey()));
+            assertEquals(entry.getKey(), idMap.getOriginalId(entry.getValue()));
+        }
+        assertEquals(-1, idMap.get(Long.MIN_VALUE + 12345));
+    }
+
+    @Test
+    void testMSTInOriginalIds() {
+        long base = 9_000_000_000L;
+        SparseGraphBuilder builder = new SparseGraphBuilder();
+        builder.addEdge(base + 10, base + 20, 4)
+                .addEdge(base + 20, -7L, 1)
+                .addEdge(-7L, base + 10, 2)
+                .addEdge(-7L, Long.MAX_VALUE, 5);
+        CompactGraph graph = builder.build();
+        VertexIdMap idMap = builder.getIdMap();
+
+        assertEquals(4, graph.getVertices());
+        KruskalMST mst = new KruskalMST(graph);
+        assertEquals(8, mst.getTotalWeight());
+        long[] endpoints = idMap.toOriginalEndpoints(mst.getMSTEdges());
+        assertArrayEquals(new long[]{base + 20, -7L, -7L, base + 10, -7L, Long.MAX_VALUE}, endpoints);
+
+        MSTReplacer replacer = new MSTReplacer(graph, mst.getMSTEdges());
+        Edge replacement = replacer.removeAndReplace(idMap.toDenseEdge(-7L, base + 10, 2));
+        assertEquals((base + 10) + " -- " + (base + 20) + " (weight: 4)", idMap.format(replacement));
+        assertThrows(IllegalArgumentException.class, () -> idMap.toDenseEdge(1L, 2L, 3));
+    }
+}